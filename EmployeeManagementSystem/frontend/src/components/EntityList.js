@@ -9,27 +9,35 @@ function EntityList({ entity }) {
   const [items, setItems] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [next, setNext] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     fetchItems();
   }, [entity.api]);
 
+  // Paginated listings wrap the rows in { items, next }.
+  const toItems = (data) => {
+    const fetchedItems = data?.items ?? data ?? [];
+    if (entity.path !== 'employees') {
+      return fetchedItems;
+    }
+    return fetchedItems.map(item => ({
+      ...item,
+      departmentName: item.department?.name || 'N/A',
+      positionName: item.position?.name || 'N/A',
+    }));
+  };
+
   const fetchItems = async () => {
     try {
       setLoading(true);
       const response = await api.get(entity.api);
-      let fetchedItems = response.data || [];
-
-      if (entity.path === 'employees') {
-        fetchedItems = fetchedItems.map(item => ({
-          ...item,
-          departmentName: item.department?.name || 'N/A',
-          positionName: item.position?.name || 'N/A',
-        }));
-      }
+      const fetchedItems = toItems(response.data);
 
       console.log('Fetched items for', entity.name, fetchedItems);
       setItems(fetchedItems);
+      setNext(response.data?.next ?? null);
       setError(null);
     } catch (error) {
       console.error(`Error fetching ${entity.name}:`, error);
@@ -39,6 +47,20 @@ function EntityList({ entity }) {
     }
   };
 
+  const loadMore = async () => {
+    try {
+      setLoadingMore(true);
+      const response = await api.get(entity.api, { params: { cursor: next } });
+      setItems(previous => [...previous, ...toItems(response.data)]);
+      setNext(response.data?.next ?? null);
+    } catch (error) {
+      console.error(`Error fetching more ${entity.name}:`, error);
+      setError('Failed to load more data.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDelete = async (id) => {
     try {
       await api.delete(`${entity.api}/${id}`);
@@ -146,6 +168,17 @@ function EntityList({ entity }) {
           </TableBody>
         </Table>
       </TableContainer>
+      {next && (
+        <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+          <Button
+            variant="outlined"
+            onClick={loadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </Button>
+        </Box>
+      )}
     </div>
   );
 }
@@ -0,0 +1,56 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Throughput of verifying a login token. {@code rebuildKeyAndParser} repeats what every call
+ * used to do before the key and parser were kept in {@link JwtUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+        "ThisIsAReallyLongAndSecureSecretKeyForHS256AlgorithmAtLeast256Bits";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, TimeUnit.DAYS.toMillis(1));
+        token = jwtUtil.generateToken(new AuthenticatedUser(1L, "admin", "", 0,
+            List.of(new SimpleGrantedAuthority("ADMIN"), new SimpleGrantedAuthority("USER"))));
+    }
+
+    @Benchmark
+    public AuthenticatedUser parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims rebuildKeyAndParser() {
+        return Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
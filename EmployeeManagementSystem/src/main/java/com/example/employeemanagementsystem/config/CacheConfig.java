@@ -1,15 +1,180 @@
 package com.example.employeemanagementsystem.config;
 
-import com.example.employeemanagementsystem.model.Department;
+import com.example.employeemanagementsystem.dao.DepartmentDao;
+import com.example.employeemanagementsystem.dto.get.DepartmentDto;
+import com.example.employeemanagementsystem.dto.get.PositionDto;
+import com.example.employeemanagementsystem.dto.get.RoleDto;
+import com.example.employeemanagementsystem.mapper.DepartmentMapper;
+import com.example.employeemanagementsystem.config.JwtUtil.VerifiedToken;
+import com.example.employeemanagementsystem.service.JsonResponseCache.CachedJson;
+import com.example.employeemanagementsystem.service.UserDetailsServiceImpl.CachedUser;
+import com.example.employeemanagementsystem.utils.EvictionPolicy;
 import com.example.employeemanagementsystem.utils.InMemoryCache;
+import com.example.employeemanagementsystem.utils.ObjectSizes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
+@EnableScheduling
 public class CacheConfig {
 
+    @Value("${cache.department.capacity:10000}")
+    private int departmentCacheCapacity;
+
+    @Value("${cache.department.max-heap:16MB}")
+    private DataSize departmentCacheMaxHeap;
+
+    @Value("${cache.department.policy:TINY_LFU}")
+    private EvictionPolicy departmentCachePolicy;
+
+    @Value("${cache.department.expire-after-write:10m}")
+    private Duration departmentExpireAfterWrite;
+
+    @Value("${cache.department.expire-after-access:0s}")
+    private Duration departmentExpireAfterAccess;
+
+    @Value("${cache.department.refresh-after-write:5m}")
+    private Duration departmentRefreshAfterWrite;
+
+    @Value("${cache.position.capacity:1000}")
+    private int positionCacheCapacity;
+
+    @Value("${cache.position.expire-after-write:30m}")
+    private Duration positionExpireAfterWrite;
+
+    @Value("${cache.role.capacity:100}")
+    private int roleCacheCapacity;
+
+    @Value("${cache.role.expire-after-write:30m}")
+    private Duration roleExpireAfterWrite;
+
+    @Value("${cache.response.max-heap:8MB}")
+    private DataSize responseCacheMaxHeap;
+
+    @Value("${cache.response.expire-after-write:10m}")
+    private Duration responseExpireAfterWrite;
+
+    @Value("${cache.token.capacity:10000}")
+    private int tokenCacheCapacity;
+
+    @Value("${cache.token.expire-after-access:30m}")
+    private Duration tokenExpireAfterAccess;
+
+    @Value("${cache.user-details.capacity:10000}")
+    private int userDetailsCacheCapacity;
+
+    @Value("${cache.user-details.expire-after-write:10m}")
+    private Duration userDetailsExpireAfterWrite;
+
+    private final ObjectProvider<InMemoryCache<?, ?>> caches;
+
+    public CacheConfig(ObjectProvider<InMemoryCache<?, ?>> caches) {
+        this.caches = caches;
+    }
+
+    // Caches hold mapped DTOs, never entities: a hit needs no mapping and cannot touch a
+    // detached Hibernate session. Cached DTOs are shared between requests and must not be
+    // modified by callers.
+    @Bean
+    public InMemoryCache<Long, DepartmentDto> departmentCache(
+        DepartmentDao departmentDao,
+        DepartmentMapper departmentMapper,
+        @Qualifier("taskExecutor") Executor taskExecutor) {
+        return InMemoryCache.<Long, DepartmentDto>builder()
+            .capacity(departmentCacheCapacity)
+            .maximumWeight(departmentCacheMaxHeap.toBytes(), CacheConfig::departmentWeight)
+            .evictionPolicy(departmentCachePolicy)
+            .expireAfterWrite(departmentExpireAfterWrite)
+            .expireAfterAccess(departmentExpireAfterAccess)
+            .refreshAfterWrite(departmentRefreshAfterWrite,
+                id -> departmentDao.findById(id).map(departmentMapper::toDto).orElse(null))
+            .executor(taskExecutor)
+            .keyParser(Long::valueOf)
+            .build();
+    }
+
+    @Bean
+    public InMemoryCache<Long, PositionDto> positionCache() {
+        return InMemoryCache.<Long, PositionDto>builder()
+            .capacity(positionCacheCapacity)
+            .evictionPolicy(EvictionPolicy.TINY_LFU)
+            .expireAfterWrite(positionExpireAfterWrite)
+            .keyParser(Long::valueOf)
+            .build();
+    }
+
+    @Bean
+    public InMemoryCache<Long, RoleDto> roleCache() {
+        return InMemoryCache.<Long, RoleDto>builder()
+            .capacity(roleCacheCapacity)
+            .evictionPolicy(EvictionPolicy.TINY_LFU)
+            .expireAfterWrite(roleExpireAfterWrite)
+            .keyParser(Long::valueOf)
+            .build();
+    }
+
+    @Bean
+    public InMemoryCache<String, CachedJson> responseCache() {
+        return InMemoryCache.<String, CachedJson>builder()
+            .capacity(256)
+            .maximumWeight(responseCacheMaxHeap.toBytes(), CacheConfig::responseWeight)
+            .evictionPolicy(EvictionPolicy.TINY_LFU)
+            .expireAfterWrite(responseExpireAfterWrite)
+            .build();
+    }
+
+    // Verified tokens by hash, each entry lives until its token expires or sits unused.
     @Bean
-    public InMemoryCache<Long, Department> departmentCache() {
-        return new InMemoryCache<>(128);
+    public InMemoryCache<Long, VerifiedToken> tokenCache() {
+        return InMemoryCache.<Long, VerifiedToken>builder()
+            .capacity(tokenCacheCapacity)
+            .evictionPolicy(EvictionPolicy.TINY_LFU)
+            .expireAfterAccess(tokenExpireAfterAccess)
+            .expireAfter((hash, token) -> Duration.between(Instant.now(), token.expiresAt()))
+            .build();
+    }
+
+    // Login lookups by username or employee email, shared between nodes.
+    @Bean
+    public InMemoryCache<String, CachedUser> userDetailsCache() {
+        return InMemoryCache.<String, CachedUser>builder()
+            .capacity(userDetailsCacheCapacity)
+            .evictionPolicy(EvictionPolicy.TINY_LFU)
+            .expireAfterWrite(userDetailsExpireAfterWrite)
+            .keyParser(Function.identity())
+            .build();
+    }
+
+    private static int departmentWeight(Long id, DepartmentDto department) {
+        long bytes = ObjectSizes.CACHE_ENTRY + ObjectSizes.BOXED_LONG
+            + ObjectSizes.object(3, 0)
+            + ObjectSizes.BOXED_LONG
+            + ObjectSizes.string(department.getName())
+            + ObjectSizes.string(department.getDescription());
+        return ObjectSizes.saturatedWeight(bytes);
+    }
+
+    private static int responseWeight(String key, CachedJson json) {
+        long bytes = ObjectSizes.CACHE_ENTRY
+            + ObjectSizes.string(key)
+            + ObjectSizes.object(2, 0)
+            + ObjectSizes.bytes(json.getBody())
+            + ObjectSizes.string(json.getEtag());
+        return ObjectSizes.saturatedWeight(bytes);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.clean-up-interval:PT1S}")
+    public void cleanUpCaches() {
+        caches.stream().forEach(InMemoryCache::cleanUp);
     }
-}
\ No newline at end of file
+}
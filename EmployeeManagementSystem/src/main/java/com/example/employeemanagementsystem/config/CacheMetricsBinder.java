@@ -0,0 +1,109 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.utils.CacheStats;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import com.example.employeemanagementsystem.utils.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the statistics of every {@link InMemoryCache} bean to Micrometer, using the same
+ * meter names as the binders Micrometer ships for Caffeine and JCache. The load latency
+ * histogram is exported as cumulative {@code le} counters so it can be scraped like a
+ * Prometheus histogram.
+ */
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final Map<String, InMemoryCache<?, ?>> caches;
+
+    @Autowired
+    public CacheMetricsBinder(Map<String, InMemoryCache<?, ?>> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches.forEach((name, cache) -> bind(registry, name, cache));
+    }
+
+    private void bind(MeterRegistry registry, String name, InMemoryCache<?, ?> cache) {
+        Tags tags = Tags.of("cache", name);
+
+        Gauge.builder("cache.size", cache, InMemoryCache::size)
+            .tags(tags)
+            .description("The number of entries in this cache")
+            .register(registry);
+        Gauge.builder("cache.weight", cache, InMemoryCache::getWeightedSize)
+            .tags(tags)
+            .description("The total weight of the entries in this cache")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().getHitRate())
+            .tags(tags)
+            .description("The ratio of lookups that were served from this cache")
+            .register(registry);
+
+        counter(registry, "cache.gets", tags.and("result", "hit"), cache,
+            CacheStats::getHitCount, "The number of lookups served from the cache");
+        counter(registry, "cache.gets", tags.and("result", "miss"), cache,
+            CacheStats::getMissCount, "The number of lookups that found no value");
+        counter(registry, "cache.loads", tags.and("result", "success"), cache,
+            CacheStats::getLoadSuccessCount, "The number of successful loads");
+        counter(registry, "cache.loads", tags.and("result", "failure"), cache,
+            CacheStats::getLoadFailureCount, "The number of failed loads");
+        for (RemovalCause cause : RemovalCause.values()) {
+            counter(registry, "cache.evictions", tags.and("cause", cause.name().toLowerCase()),
+                cache, stats -> stats.getEvictionCounts().get(cause),
+                "The number of entries removed from this cache");
+        }
+
+        FunctionTimer.builder("cache.load.duration", cache,
+                c -> c.stats().getLoadCount(),
+                c -> c.stats().getTotalLoadTimeNanos(), TimeUnit.NANOSECONDS)
+            .tags(tags)
+            .description("The time spent loading values into this cache")
+            .register(registry);
+
+        List<String> bounds = List.copyOf(cache.stats().getLoadLatencyHistogram().keySet());
+        for (int i = 0; i < bounds.size(); i++) {
+            int last = i;
+            FunctionCounter.builder("cache.load.duration.histogram", cache,
+                    c -> cumulativeCount(c.stats(), last))
+                .tags(tags.and("le", bounds.get(i)))
+                .description("The number of loads that completed within the bound")
+                .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String name, Tags tags,
+                                InMemoryCache<?, ?> cache, ToDoubleFunction<CacheStats> value,
+                                String description) {
+        FunctionCounter.builder(name, cache, c -> value.applyAsDouble(c.stats()))
+            .tags(tags)
+            .description(description)
+            .register(registry);
+    }
+
+    private static double cumulativeCount(CacheStats stats, int last) {
+        long count = 0L;
+        int i = 0;
+        for (long bucket : stats.getLoadLatencyHistogram().values()) {
+            if (i++ > last) {
+                break;
+            }
+            count += bucket;
+        }
+        return count;
+    }
+}
@@ -1,32 +1,51 @@
 package com.example.employeemanagementsystem.config;
 
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys; // Импортируем Keys
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey; // Импортируем SecretKey
+import java.time.Instant;
 import java.util.Base64; // Импортируем Base64
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the login tokens. The signing key and the parser are built once, the
+ * parser is immutable and shared by all request threads.
+ */
 @Component
 public class JwtUtil {
 
-    // Замените этот ключ на свой собственный, сгенерированный и достаточно длинный
-    @Value("${jwt.secret:ThisIsAReallyLongAndSecureSecretKeyForHS256AlgorithmAtLeast256Bits}")
-    private String secret;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${jwt.expiration:86400000}") // 24 hours
-    private long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Autowired
+    public JwtUtil(
+            // Замените этот ключ на свой собственный, сгенерированный и достаточно длинный
+            @Value("${jwt.secret:ThisIsAReallyLongAndSecureSecretKeyForHS256AlgorithmAtLeast256Bits}")
+            String secret,
+            @Value("${jwt.expiration:86400000}") long expiration) { // 24 hours
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expiration = expiration;
     }
 
     public String extractUsername(String token) {
@@ -42,27 +61,62 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+    /**
+     * Verifies the signature and expiry of the token and returns its claims. Callers that need
+     * several claims should read them all from the result instead of parsing the token again.
+     */
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateToken(AuthenticatedUser user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getUserId());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        claims.put(ROLES_CLAIM, user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        return createToken(claims, user.getUsername());
     }
 
-    public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+    public AuthenticatedUser parseToken(String token) {
+        return verifyToken(token).user();
+    }
+
+    /**
+     * Verifies the signature and expiry of the token and builds the principal from its claims
+     * alone, parsing the token once. Tokens issued without the user id, version, roles or an
+     * expiry are rejected.
+     */
+    public VerifiedToken verifyToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (!(claims.get(USER_ID_CLAIM) instanceof Number userId)
+                || !(claims.get(TOKEN_VERSION_CLAIM) instanceof Number tokenVersion)
+                || !(claims.get(ROLES_CLAIM) instanceof List<?> roles)
+                || claims.getSubject() == null
+                || claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token does not carry the user claims");
+        }
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+        AuthenticatedUser user = new AuthenticatedUser(userId.longValue(), claims.getSubject(), "",
+                tokenVersion.intValue(), authorities);
+        return new VerifiedToken(token, user, claims.getExpiration().toInstant());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+                .signWith(signingKey, SignatureAlgorithm.HS256).compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date()));
+    }
+
+    public record VerifiedToken(String token, AuthenticatedUser user, Instant expiresAt) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.example.employeemanagementsystem.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails the startup when PostgreSQL plans a sequential scan of a large table for one of the hot
+ * employee lookups, which usually means a migration with its index is missing. The statements
+ * mirror the SQL Hibernate generates for the DAO finders, with sample values. Tables with fewer
+ * than {@code query-plan.check.min-rows} rows are ignored, scanning them is the right plan.
+ */
+@Component
+@ConditionalOnProperty(name = "query-plan.check.enabled", havingValue = "true")
+public class QueryPlanCheck implements ApplicationRunner {
+
+    static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("EmployeeDao.findRowById",
+            "SELECT e.id FROM employees e "
+                + "LEFT JOIN departments d ON d.id = e.department_id "
+                + "LEFT JOIN positions p ON p.id = e.position_id "
+                + "LEFT JOIN users u ON u.id = e.user_id WHERE e.id = 1");
+        QUERIES.put("EmployeeDao.findRows by salary",
+            "SELECT e.id FROM employees e WHERE e.salary >= 1000 AND e.salary <= 2000 "
+                + "ORDER BY e.salary, e.id LIMIT 51");
+        QUERIES.put("EmployeeDao.findRows by department",
+            "SELECT e.id FROM employees e WHERE e.department_id = 1 ORDER BY e.id LIMIT 51");
+        QUERIES.put("EmployeeDao.findRows by department and position",
+            "SELECT e.id FROM employees e WHERE e.department_id = 1 AND e.position_id = 1 "
+                + "ORDER BY e.id LIMIT 51");
+        QUERIES.put("EmployeeDao.findRows by position",
+            "SELECT e.id FROM employees e WHERE e.position_id = 1 ORDER BY e.id LIMIT 51");
+        QUERIES.put("EmployeeDao.findRows by role",
+            "SELECT e.id FROM employees e JOIN users u ON u.id = e.user_id "
+                + "JOIN user_roles ur ON ur.user_id = u.id JOIN roles r ON r.id = ur.role_id "
+                + "WHERE r.name = 'ADMIN' ORDER BY e.id LIMIT 51");
+        QUERIES.put("EmployeeDao.findEmailsIn",
+            "SELECT e.email FROM employees e "
+                + "WHERE e.email IN ('a@example.com', 'b@example.com')");
+        QUERIES.put("EmployeeDao.findUserIdsIn",
+            "SELECT e.user_id FROM employees e WHERE e.user_id IN (1, 2, 3)");
+        QUERIES.put("UserDao.findRolesByUserIds",
+            "SELECT ur.user_id, r.id, r.name FROM user_roles ur "
+                + "JOIN roles r ON r.id = ur.role_id WHERE ur.user_id IN (1, 2, 3)");
+        QUERIES.put("UserDao.findByUsernameOrEmployeeEmail",
+            "SELECT u.id, r.id FROM users u "
+                + "LEFT JOIN user_roles ur ON ur.user_id = u.id "
+                + "LEFT JOIN roles r ON r.id = ur.role_id "
+                + "WHERE u.username = 'check@example.com' OR u.id = "
+                + "(SELECT e.user_id FROM employees e WHERE e.email = 'check@example.com')");
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanCheck.class);
+    private static final String TABLE_ROWS_QUERY = "SELECT c.relname, c.reltuples::bigint "
+        + "FROM pg_class c WHERE c.relkind = 'r' "
+        + "AND c.relnamespace = to_regnamespace(current_schema())";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long minRows;
+
+    @Autowired
+    public QueryPlanCheck(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                          @Value("${query-plan.check.min-rows:10000}") long minRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.minRows = minRows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws JsonProcessingException {
+        Map<String, Long> tableRows = new HashMap<>();
+        jdbcTemplate.query(TABLE_ROWS_QUERY,
+            (RowCallbackHandler) rs -> tableRows.put(rs.getString(1), rs.getLong(2)));
+
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) " + query.getValue(), String.class);
+            for (String table : findSequentialScans(objectMapper.readTree(plan), tableRows,
+                minRows)) {
+                problems.add(query.getKey() + " scans " + table);
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Sequential scans of tables with at least " + minRows
+                + " rows: " + String.join("; ", problems));
+        }
+        logger.info("Checked the plans of {} queries, no sequential scans of large tables.",
+            QUERIES.size());
+    }
+
+    static List<String> findSequentialScans(JsonNode plan, Map<String, Long> tableRows,
+                                            long minRows) {
+        List<String> tables = new ArrayList<>();
+        collectSequentialScans(plan, tableRows, minRows, tables);
+        return tables;
+    }
+
+    private static void collectSequentialScans(JsonNode node, Map<String, Long> tableRows,
+                                               long minRows, List<String> tables) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String table = node.path("Relation Name").asText();
+            if (tableRows.getOrDefault(table, 0L) >= minRows) {
+                tables.add(table);
+            }
+        }
+        node.elements().forEachRemaining(
+            child -> collectSequentialScans(child, tableRows, minRows, tables));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.config.JwtUtil.VerifiedToken;
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers tokens that already passed verification, so a client repeating its bearer token
+ * skips the HMAC check and the claim parsing. Entries are keyed by a 64-bit hash of the token and
+ * hold the whole token, which a hit must match exactly; a forged token with a colliding hash is
+ * verified like any other. Entries expire with their token, revocation is still checked by the
+ * caller on every request.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final JwtUtil jwtUtil;
+    private final InMemoryCache<Long, VerifiedToken> tokenCache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, InMemoryCache<Long, VerifiedToken> tokenCache) {
+        this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
+    }
+
+    /** Returns the principal of the token, verifying it first unless it is cached. */
+    public AuthenticatedUser verify(String token) {
+        Long key = hash(token);
+        VerifiedToken cached = tokenCache.get(key);
+        if (cached != null && cached.token().equals(token)) {
+            return cached.user();
+        }
+        VerifiedToken verified = jwtUtil.verifyToken(token);
+        tokenCache.put(key, verified);
+        return verified.user();
+    }
+
+    // FNV-1a over the characters, tokens are ASCII.
+    static long hash(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employeemanagementsystem.controller;
+
+import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.utils.CacheStats;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache/stats")
+@Tag(name = "Cache Stats Controller", description = "API для просмотра статистики кэшей")
+public class CacheStatsController {
+
+    private final Map<String, InMemoryCache<?, ?>> caches;
+
+    @Autowired
+    public CacheStatsController(Map<String, InMemoryCache<?, ?>> caches) {
+        this.caches = caches;
+    }
+
+    @GetMapping
+    @Operation(summary = "Получить статистику всех кэшей",
+        description = "Возвращает попадания, промахи, загрузки, вытеснения и размер каждого кэша")
+    @ApiResponse(responseCode = "200", description = "Статистика успешно получена")
+    public ResponseEntity<Map<String, CacheStats>> getAllStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/{name}")
+    @Operation(summary = "Получить статистику кэша",
+        description = "Возвращает статистику кэша по имени бина")
+    @ApiResponse(responseCode = "200", description = "Статистика успешно получена")
+    @ApiResponse(responseCode = "404", description = "Кэш не найден")
+    public ResponseEntity<CacheStats> getStats(@PathVariable String name) {
+        InMemoryCache<?, ?> cache = caches.get(name);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache not found with name " + name);
+        }
+        return ResponseEntity.ok(cache.stats());
+    }
+}
@@ -2,11 +2,16 @@ package com.example.employeemanagementsystem.controller;
 
 import com.example.employeemanagementsystem.dto.create.DepartmentCreateDto;
 import com.example.employeemanagementsystem.dto.get.DepartmentDto;
+import com.example.employeemanagementsystem.dto.get.CursorPageDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.service.DepartmentService;
 import com.example.employeemanagementsystem.service.EmployeeService;
+import com.example.employeemanagementsystem.service.JsonResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -21,7 +26,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -30,12 +37,15 @@ public class DepartmentController {
 
     private final DepartmentService departmentService;
     private final EmployeeService employeeService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
     public DepartmentController(DepartmentService departmentService,
-                                EmployeeService employeeService) {
+                                EmployeeService employeeService,
+                                JsonResponseCache jsonResponseCache) {
         this.departmentService = departmentService;
         this.employeeService = employeeService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @GetMapping("/{id}")
@@ -50,12 +60,25 @@ public class DepartmentController {
         return ResponseEntity.ok(departmentDto);
     }
 
+    @GetMapping("/batch")
+    @Operation(summary = "Получить отделы по списку ID",
+        description = "Возвращает найденные отделы из переданного списка ID")
+    @ApiResponse(responseCode = "200", description = "Отделы успешно получены")
+    public ResponseEntity<List<DepartmentDto>> getDepartmentsByIds(
+        @RequestParam List<Long> ids) {
+        List<DepartmentDto> departments = departmentService.getDepartmentsByIds(ids);
+        return ResponseEntity.ok(departments);
+    }
+
     @GetMapping
     @Operation(summary = "Получить все отделы", description = "Возвращает список всех отделов")
-    @ApiResponse(responseCode = "200", description = "Список отделов успешно получен")
-    public ResponseEntity<List<DepartmentDto>> getAllDepartments() {
-        List<DepartmentDto> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+    @ApiResponse(responseCode = "200", description = "Список отделов успешно получен",
+        content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = DepartmentDto.class))))
+    @ApiResponse(responseCode = "304", description = "Список отделов не изменился")
+    public ResponseEntity<byte[]> getAllDepartments(WebRequest request) {
+        return jsonResponseCache.respond(request, JsonResponseCache.DEPARTMENTS, "all",
+            departmentService::getAllDepartments);
     }
 
     @PostMapping
@@ -94,12 +117,16 @@ public class DepartmentController {
 
     @GetMapping("/{departmentId}/employees")
     @Operation(summary = "Получить сотрудников отдела",
-        description = "Возвращает список сотрудников по ID отдела")
-    @ApiResponse(responseCode = "200", description = "Список сотрудников успешно получен")
+        description = "Возвращает страницу сотрудников по ID отдела")
+    @ApiResponse(responseCode = "200", description = "Страница сотрудников успешно получена")
+    @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы")
     @ApiResponse(responseCode = "404", description = "Отдел не найден")
-    public ResponseEntity<List<EmployeeDto>> getEmployeesByDepartment(
-        @PathVariable Long departmentId) {
-        List<EmployeeDto> employees = employeeService.getEmployeesByDepartmentId(departmentId);
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getEmployeesByDepartment(
+        @PathVariable Long departmentId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDto<EmployeeDto> employees = employeeService
+            .getEmployeePageByDepartmentId(departmentId, cursor, size);
         return ResponseEntity.ok(employees);
     }
 }
\ No newline at end of file
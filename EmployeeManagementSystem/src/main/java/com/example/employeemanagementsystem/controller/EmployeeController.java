@@ -1,18 +1,30 @@
 package com.example.employeemanagementsystem.controller;
 
 import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.BulkUpdateResultDto;
+import com.example.employeemanagementsystem.dto.get.CursorPageDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
+import com.example.employeemanagementsystem.dto.get.EmployeeImportResultDto;
+import com.example.employeemanagementsystem.dto.update.EmployeeStatusChangeDto;
+import com.example.employeemanagementsystem.dto.update.SalaryChangeDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
-import com.example.employeemanagementsystem.mapper.EmployeeMapper;
-import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeImportTask;
+import com.example.employeemanagementsystem.service.EmployeeExportService;
+import com.example.employeemanagementsystem.service.EmployeeExportService.Format;
+import com.example.employeemanagementsystem.service.EmployeeImportService;
 import com.example.employeemanagementsystem.service.EmployeeService;
+import com.example.employeemanagementsystem.service.EmployeeStreamImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -31,12 +44,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
-    private final EmployeeMapper employeeMapper;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeStreamImportService employeeStreamImportService;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService, EmployeeMapper employeeMapper) {
+    public EmployeeController(EmployeeService employeeService,
+                              EmployeeExportService employeeExportService,
+                              EmployeeImportService employeeImportService,
+                              EmployeeStreamImportService employeeStreamImportService) {
         this.employeeService = employeeService;
-        this.employeeMapper = employeeMapper;
+        this.employeeExportService = employeeExportService;
+        this.employeeImportService = employeeImportService;
+        this.employeeStreamImportService = employeeStreamImportService;
     }
 
     @GetMapping("/{id}")
@@ -54,39 +74,66 @@ public class EmployeeController {
 
     @GetMapping(params = {"departmentId", "positionId"})
     @Operation(summary = "Получить сотрудников по отделу и должности",
-        description = "Возвращает список сотрудников по ID отдела и должности")
-    @ApiResponse(responseCode = "200", description = "Список сотрудников успешно получен")
-    public ResponseEntity<List<EmployeeDto>> getEmployeesByDepartmentAndPosition(
+        description = "Возвращает страницу сотрудников по ID отдела и должности")
+    @ApiResponse(responseCode = "200", description = "Страница сотрудников успешно получена")
+    @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы")
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getEmployeesByDepartmentAndPosition(
         @RequestParam("departmentId") Long departmentId,
-        @RequestParam("positionId") Long positionId) {
-        List<EmployeeDto> employees = employeeService
-            .getEmployeesByDepartmentIdAndPositionId(departmentId, positionId);
+        @RequestParam("positionId") Long positionId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDto<EmployeeDto> employees = employeeService
+            .getEmployeePageByDepartmentIdAndPositionId(departmentId, positionId, cursor, size);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping(params = {"roleName"})
     @Operation(summary = "Получить сотрудников по роли",
-        description = "Возвращает список сотрудников по имени роли")
-    @ApiResponse(responseCode = "200", description = "Список сотрудников успешно получен")
-    public ResponseEntity<List<EmployeeDto>> getEmployeesByRoleName(
-        @RequestParam("roleName") String roleName) {
-        List<EmployeeDto> employees = employeeService.getEmployeesByRoleNameNative(roleName);
+        description = "Возвращает страницу сотрудников по имени роли")
+    @ApiResponse(responseCode = "200", description = "Страница сотрудников успешно получена")
+    @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы")
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getEmployeesByRoleName(
+        @RequestParam("roleName") String roleName,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDto<EmployeeDto> employees = employeeService
+            .getEmployeePageByRoleName(roleName, cursor, size);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping
     @Operation(summary = "Получить всех сотрудников",
-        description = "Возвращает список всех сотрудников с фильтром по зарплате")
-    @ApiResponse(responseCode = "200", description = "Список сотрудников успешно получен")
-    public ResponseEntity<List<EmployeeDto>> getAllEmployees(
+        description = "Возвращает страницу сотрудников с фильтром по зарплате. "
+            + "Следующая страница запрашивается с курсором next из ответа")
+    @ApiResponse(responseCode = "200", description = "Страница сотрудников успешно получена")
+    @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы")
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getAllEmployees(
         @RequestParam(value = "min_salary", required = false) BigDecimal minSalary,
-        @RequestParam(value = "max_salary", required = false) BigDecimal maxSalary) {
-        List<Employee> employees = employeeService
-            .getEmployeesBySalaryRange(minSalary, maxSalary);
-        List<EmployeeDto> employeeDtos = employees.stream()
-            .map(employeeMapper::toDto)
-            .toList();
-        return ResponseEntity.ok(employeeDtos);
+        @RequestParam(value = "max_salary", required = false) BigDecimal maxSalary,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDto<EmployeeDto> employees = employeeService
+            .getEmployeePageBySalaryRange(minSalary, maxSalary, cursor, size);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Выгрузить всех сотрудников",
+        description = "Потоково выгружает всех сотрудников в формате NDJSON или CSV")
+    @ApiResponse(responseCode = "200", description = "Выгрузка начата")
+    @ApiResponse(responseCode = "400", description = "Неподдерживаемый формат")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+        @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        Format exportFormat = Format.of(format);
+        StreamingResponseBody body =
+            out -> employeeExportService.exportEmployees(exportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("employees." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(body);
     }
 
     @PostMapping
@@ -111,6 +158,56 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployees);
     }
 
+    @PostMapping("/import")
+    @Operation(summary = "Импортировать сотрудников асинхронно",
+        description = "Создает задачу импорта, которая сохраняет сотрудников частями в отдельных "
+            + "транзакциях, и возвращает ID задачи")
+    @ApiResponse(responseCode = "202", description = "Задача успешно создана")
+    @ApiResponse(responseCode = "400", description = "Некорректные данные")
+    public ResponseEntity<String> createImportTask(
+        @RequestBody List<EmployeeCreateDto> employeeDtos) {
+        String taskId = employeeImportService.createImportTask(employeeDtos);
+        return new ResponseEntity<>(taskId, HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/import/stream")
+    @Operation(summary = "Потоково импортировать сотрудников",
+        description = "Читает сотрудников из CSV или компактного бинарного формата по мере "
+            + "получения тела запроса и сохраняет их частями")
+    @ApiResponse(responseCode = "200", description = "Импорт завершен")
+    @ApiResponse(responseCode = "400", description = "Неподдерживаемый или поврежденный формат")
+    public ResponseEntity<EmployeeImportResultDto> importEmployeesStream(
+        @RequestParam(value = "format", defaultValue = "csv") String format,
+        InputStream body) throws IOException {
+        EmployeeImportResultDto result = employeeStreamImportService
+            .importEmployees(EmployeeStreamImportService.Format.of(format), body);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/import/{taskId}")
+    @Operation(summary = "Получить статус импорта",
+        description = "Возвращает прогресс, скорость и ошибочные строки задачи импорта")
+    @ApiResponse(responseCode = "200", description = "Статус получен")
+    @ApiResponse(responseCode = "404", description = "Задача не найдена")
+    public ResponseEntity<EmployeeImportTask> getImportTaskStatus(@PathVariable String taskId) {
+        EmployeeImportTask task = employeeImportService.getTaskStatus(taskId);
+        if (task == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(task);
+    }
+
+    @PostMapping("/import/{taskId}/resume")
+    @Operation(summary = "Возобновить импорт",
+        description = "Продолжает прерванный импорт с последней сохраненной части")
+    @ApiResponse(responseCode = "202", description = "Импорт возобновлен")
+    @ApiResponse(responseCode = "400", description = "Задачу нельзя возобновить")
+    @ApiResponse(responseCode = "404", description = "Задача не найдена")
+    public ResponseEntity<EmployeeImportTask> resumeImportTask(@PathVariable String taskId) {
+        EmployeeImportTask task = employeeImportService.resumeImportTask(taskId);
+        return new ResponseEntity<>(task, HttpStatus.ACCEPTED);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Обновить сотрудника",
         description = "Обновляет существующего сотрудника по ID")
@@ -126,6 +223,39 @@ public class EmployeeController {
         return ResponseEntity.ok(updatedEmployee);
     }
 
+    @PutMapping("/salaries")
+    @Operation(summary = "Изменить зарплаты",
+        description = "Изменяет зарплаты сотрудников отдела и/или должности на заданный процент "
+            + "одним запросом к базе данных")
+    @ApiResponse(responseCode = "200", description = "Зарплаты успешно изменены")
+    @ApiResponse(responseCode = "400", description = "Некорректные данные")
+    public ResponseEntity<BulkUpdateResultDto> changeSalaries(
+        @Valid @RequestBody SalaryChangeDto salaryChangeDto) {
+        int affectedRows = employeeService.changeSalaries(salaryChangeDto);
+        return ResponseEntity.ok(new BulkUpdateResultDto(affectedRows));
+    }
+
+    @PutMapping("/batch/status")
+    @Operation(summary = "Изменить активность сотрудников",
+        description = "Активирует или деактивирует сотрудников по списку ID одним запросом")
+    @ApiResponse(responseCode = "200", description = "Статус успешно изменен")
+    @ApiResponse(responseCode = "400", description = "Некорректные данные")
+    public ResponseEntity<BulkUpdateResultDto> changeStatus(
+        @Valid @RequestBody EmployeeStatusChangeDto statusChangeDto) {
+        int affectedRows = employeeService.changeStatus(statusChangeDto);
+        return ResponseEntity.ok(new BulkUpdateResultDto(affectedRows));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Удалить сотрудников по списку ID",
+        description = "Удаляет сотрудников по списку ID одним запросом")
+    @ApiResponse(responseCode = "200", description = "Сотрудники успешно удалены")
+    @ApiResponse(responseCode = "400", description = "Некорректные данные")
+    public ResponseEntity<BulkUpdateResultDto> deleteEmployees(@RequestParam List<Long> ids) {
+        int affectedRows = employeeService.deleteEmployees(ids);
+        return ResponseEntity.ok(new BulkUpdateResultDto(affectedRows));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Удалить сотрудника", description = "Удаляет сотрудника по ID")
     @ApiResponse(responseCode = "204", description = "Сотрудник успешно удален")
@@ -1,16 +1,20 @@
 package com.example.employeemanagementsystem.controller;
 
 import com.example.employeemanagementsystem.dto.create.PositionCreateDto;
+import com.example.employeemanagementsystem.dto.get.CursorPageDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
 import com.example.employeemanagementsystem.dto.get.PositionDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.service.EmployeeService;
+import com.example.employeemanagementsystem.service.JsonResponseCache;
 import com.example.employeemanagementsystem.service.PositionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,7 +25,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/positions")
@@ -30,11 +36,14 @@ public class PositionController {
 
     private final PositionService positionService;
     private final EmployeeService employeeService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
-    public PositionController(PositionService positionService, EmployeeService employeeService) {
+    public PositionController(PositionService positionService, EmployeeService employeeService,
+                              JsonResponseCache jsonResponseCache) {
         this.positionService = positionService;
         this.employeeService = employeeService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @GetMapping("/{id}")
@@ -53,10 +62,13 @@ public class PositionController {
     @GetMapping
     @Operation(summary = "Получить все должности",
         description = "Возвращает список всех должностей")
-    @ApiResponse(responseCode = "200", description = "Список должностей успешно получен")
-    public ResponseEntity<List<PositionDto>> getAllPositions() {
-        List<PositionDto> positions = positionService.getAllPositions();
-        return ResponseEntity.ok(positions);
+    @ApiResponse(responseCode = "200", description = "Список должностей успешно получен",
+        content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = PositionDto.class))))
+    @ApiResponse(responseCode = "304", description = "Список должностей не изменился")
+    public ResponseEntity<byte[]> getAllPositions(WebRequest request) {
+        return jsonResponseCache.respond(request, JsonResponseCache.POSITIONS, "all",
+            positionService::getAllPositions);
     }
 
     @PostMapping
@@ -95,12 +107,16 @@ public class PositionController {
 
     @GetMapping("/{positionId}/employees")
     @Operation(summary = "Получить сотрудников по должности",
-        description = "Возвращает список сотрудников по ID должности")
-    @ApiResponse(responseCode = "200", description = "Список сотрудников успешно получен")
+        description = "Возвращает страницу сотрудников по ID должности")
+    @ApiResponse(responseCode = "200", description = "Страница сотрудников успешно получена")
+    @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы")
     @ApiResponse(responseCode = "404", description = "Должность не найдена")
-    public ResponseEntity<List<EmployeeDto>> getEmployeesByPosition(
-        @PathVariable Long positionId) {
-        List<EmployeeDto> employees = employeeService.getEmployeesByPositionId(positionId);
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getEmployeesByPosition(
+        @PathVariable Long positionId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        CursorPageDto<EmployeeDto> employees = employeeService
+            .getEmployeePageByPositionId(positionId, cursor, size);
         return ResponseEntity.ok(employees);
     }
 }
\ No newline at end of file
@@ -3,12 +3,15 @@ package com.example.employeemanagementsystem.controller;
 import com.example.employeemanagementsystem.dto.create.RoleCreateDto;
 import com.example.employeemanagementsystem.dto.get.RoleDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.service.JsonResponseCache;
 import com.example.employeemanagementsystem.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/roles")
@@ -27,10 +31,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoleController {
 
     private final RoleService roleService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
-    public RoleController(RoleService roleService) {
+    public RoleController(RoleService roleService, JsonResponseCache jsonResponseCache) {
         this.roleService = roleService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @GetMapping("/{id}")
@@ -47,10 +53,13 @@ public class RoleController {
 
     @GetMapping
     @Operation(summary = "Получить все роли", description = "Возвращает список всех ролей")
-    @ApiResponse(responseCode = "200", description = "Список ролей успешно получен")
-    public ResponseEntity<List<RoleDto>> getAllRoles() {
-        List<RoleDto> roles = roleService.getAllRoles();
-        return ResponseEntity.ok(roles);
+    @ApiResponse(responseCode = "200", description = "Список ролей успешно получен",
+        content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = RoleDto.class))))
+    @ApiResponse(responseCode = "304", description = "Список ролей не изменился")
+    public ResponseEntity<byte[]> getAllRoles(WebRequest request) {
+        return jsonResponseCache.respond(request, JsonResponseCache.ROLES, "all",
+            roleService::getAllRoles);
     }
 
     @PostMapping
@@ -1,11 +1,15 @@
 package com.example.employeemanagementsystem.dao;
 
 import com.example.employeemanagementsystem.model.Department;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DepartmentDao extends JpaRepository<Department, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Department> findByName(String name);
 }
\ No newline at end of file
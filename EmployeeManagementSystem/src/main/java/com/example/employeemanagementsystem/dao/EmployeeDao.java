@@ -1,36 +1,59 @@
 package com.example.employeemanagementsystem.dao;
 
 import com.example.employeemanagementsystem.model.Employee;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EmployeeDao extends JpaRepository<Employee, Long> {
-    List<Employee> findBySalaryBetween(BigDecimal minSalary, BigDecimal maxSalary);
-
-    List<Employee> findBySalaryGreaterThanEqual(BigDecimal minSalary);
-
-    List<Employee> findBySalaryLessThanEqual(BigDecimal maxSalary);
-
-    List<Employee> findByDepartmentId(Long departmentId);
-
-    List<Employee> findByPositionId(Long positionId);
-
-    @Query("SELECT e FROM Employee e JOIN e.department d JOIN e.position p "
-         + "WHERE d.id = :departmentId AND p.id = :positionId")
-    List<Employee> findByDepartmentIdAndPositionId(
-        @Param("departmentId") Long departmentId,
-        @Param("positionId") Long positionId);
-
-    @Query(value =
-          "SELECT e.* FROM employees e "
-        + "JOIN users u ON e.user_id = u.id "
-        + "JOIN user_roles ur ON u.id = ur.user_id "
-        + "JOIN roles r ON ur.role_id = r.id "
-        + "WHERE r.name = :roleName", nativeQuery = true)
-    List<Employee> findByRoleNameNative(@Param("roleName") String roleName);
-}
\ No newline at end of file
+public interface EmployeeDao extends JpaRepository<Employee, Long>, EmployeeRowQueries {
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.user.id FROM Employee e WHERE e.user.id IN :userIds")
+    List<Long> findUserIdsIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query(EmployeeRow.SELECT + "WHERE e.id = :id")
+    Optional<EmployeeRow> findRowById(@Param("id") Long id);
+
+    // Rows are fetched from a server-side cursor, which PostgreSQL only uses inside a
+    // transaction. Read-only entities keep no snapshot for dirty checking.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e "
+         + "LEFT JOIN FETCH e.department LEFT JOIN FETCH e.position LEFT JOIN FETCH e.user "
+         + "ORDER BY e.id")
+    Stream<Employee> streamAll();
+
+    // Set-based statements bypass the persistence context: pending changes are flushed before
+    // them and the context is cleared after them, so no stale Employee is read back. Hibernate
+    // also invalidates cached query results that read the employees table.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.salary = ROUND(e.salary * :factor, 2) "
+         + "WHERE (:departmentId IS NULL OR e.department.id = :departmentId) "
+         + "AND (:positionId IS NULL OR e.position.id = :positionId)")
+    int scaleSalaries(@Param("factor") BigDecimal factor,
+                      @Param("departmentId") Long departmentId,
+                      @Param("positionId") Long positionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.isActive = :isActive WHERE e.id IN :ids")
+    int updateIsActiveByIds(@Param("ids") Collection<Long> ids,
+                            @Param("isActive") Boolean isActive);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.example.employeemanagementsystem.dao;
+
+import java.math.BigDecimal;
+
+/**
+ * Criteria of an employee listing. Any combination of fields may be set; {@code null} means the
+ * field is not filtered on.
+ */
+public record EmployeeFilter(
+    BigDecimal minSalary,
+    BigDecimal maxSalary,
+    Long departmentId,
+    Long positionId,
+    String roleName) {
+
+    public static EmployeeFilter bySalary(BigDecimal minSalary, BigDecimal maxSalary) {
+        return new EmployeeFilter(minSalary, maxSalary, null, null, null);
+    }
+
+    public static EmployeeFilter byDepartmentAndPosition(Long departmentId, Long positionId) {
+        return new EmployeeFilter(null, null, departmentId, positionId, null);
+    }
+
+    public static EmployeeFilter byRoleName(String roleName) {
+        return new EmployeeFilter(null, null, null, null, roleName);
+    }
+
+    // A bounded salary range is read along the salary index, so it is also ordered by salary.
+    public boolean isOrderedBySalary() {
+        return minSalary != null || maxSalary != null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.employeemanagementsystem.dao;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat projection of an employee together with its department, position and user. Rows are
+ * selected with a constructor expression, so reading them creates no managed entities and no
+ * snapshots for dirty checking.
+ */
+public record EmployeeRow(
+    Long id,
+    String firstName,
+    String lastName,
+    String email,
+    LocalDate hireDate,
+    BigDecimal salary,
+    Boolean isActive,
+    Long departmentId,
+    String departmentName,
+    String departmentDescription,
+    Long positionId,
+    String positionName,
+    String positionDescription,
+    BigDecimal positionMinSalary,
+    BigDecimal positionMaxSalary,
+    Long userId,
+    String username) {
+
+    static final String SELECT = "SELECT new com.example.employeemanagementsystem.dao.EmployeeRow("
+        + "e.id, e.firstName, e.lastName, e.email, e.hireDate, e.salary, e.isActive, "
+        + "d.id, d.name, d.description, "
+        + "p.id, p.name, p.description, p.minSalary, p.maxSalary, "
+        + "u.id, u.username) "
+        + "FROM Employee e "
+        + "LEFT JOIN e.department d LEFT JOIN e.position p LEFT JOIN e.user u ";
+}
@@ -0,0 +1,15 @@
+package com.example.employeemanagementsystem.dao;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+public interface EmployeeRowQueries {
+
+    /**
+     * Returns the employees matching {@code filter} that come after {@code position}, ordered
+     * by id, or by salary and id when {@link EmployeeFilter#isOrderedBySalary()}. A keyset
+     * position carries the {@code id} (and {@code salary}) of the last row already returned.
+     */
+    Window<EmployeeRow> findRows(EmployeeFilter filter, ScrollPosition position, Limit limit);
+}
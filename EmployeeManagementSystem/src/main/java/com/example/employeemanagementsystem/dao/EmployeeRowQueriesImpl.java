@@ -0,0 +1,80 @@
+package com.example.employeemanagementsystem.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+public class EmployeeRowQueriesImpl implements EmployeeRowQueries {
+
+    private final EntityManager entityManager;
+
+    public EmployeeRowQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Window<EmployeeRow> findRows(EmployeeFilter filter, ScrollPosition position,
+                                        Limit limit) {
+        boolean bySalary = filter.isOrderedBySalary();
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addCondition(conditions, parameters, "e.salary >= :minSalary", "minSalary",
+            filter.minSalary());
+        addCondition(conditions, parameters, "e.salary <= :maxSalary", "maxSalary",
+            filter.maxSalary());
+        addCondition(conditions, parameters, "d.id = :departmentId", "departmentId",
+            filter.departmentId());
+        addCondition(conditions, parameters, "p.id = :positionId", "positionId",
+            filter.positionId());
+        addCondition(conditions, parameters, "r.name = :roleName", "roleName",
+            filter.roleName());
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            if (bySalary) {
+                conditions.add("(e.salary, e.id) > (:afterSalary, :afterId)");
+                parameters.put("afterSalary", keyset.getKeys().get("salary"));
+            } else {
+                conditions.add("e.id > :afterId");
+            }
+            parameters.put("afterId", keyset.getKeys().get("id"));
+        }
+
+        StringBuilder jpql = new StringBuilder(EmployeeRow.SELECT);
+        if (filter.roleName() != null) {
+            jpql.append("JOIN u.roles r ");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append(bySalary ? "ORDER BY e.salary, e.id" : "ORDER BY e.id");
+
+        TypedQuery<EmployeeRow> query = entityManager.createQuery(jpql.toString(),
+            EmployeeRow.class);
+        parameters.forEach(query::setParameter);
+        // One row more than requested tells whether there is a next page.
+        List<EmployeeRow> rows = query.setMaxResults(limit.max() + 1).getResultList();
+        boolean hasNext = rows.size() > limit.max();
+        List<EmployeeRow> page = hasNext ? rows.subList(0, limit.max()) : rows;
+        return Window.from(page, index -> positionAfter(page.get(index), bySalary), hasNext);
+    }
+
+    private static void addCondition(List<String> conditions, Map<String, Object> parameters,
+                                     String condition, String name, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            parameters.put(name, value);
+        }
+    }
+
+    private static ScrollPosition positionAfter(EmployeeRow row, boolean bySalary) {
+        return bySalary
+            ? ScrollPosition.forward(Map.of("salary", row.salary(), "id", row.id()))
+            : ScrollPosition.forward(Map.of("id", row.id()));
+    }
+}
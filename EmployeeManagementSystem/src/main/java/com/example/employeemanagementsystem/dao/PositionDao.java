@@ -1,11 +1,15 @@
 package com.example.employeemanagementsystem.dao;
 
 import com.example.employeemanagementsystem.model.Position;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PositionDao extends JpaRepository<Position, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Position> findByName(String name);
 }
\ No newline at end of file
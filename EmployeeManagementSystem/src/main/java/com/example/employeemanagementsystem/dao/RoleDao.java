@@ -1,11 +1,15 @@
 package com.example.employeemanagementsystem.dao;
 
 import com.example.employeemanagementsystem.model.Role;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoleDao extends JpaRepository<Role, Long> {
-    Optional<Role> findByName(String name); 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Role> findByName(String name);
 }
\ No newline at end of file
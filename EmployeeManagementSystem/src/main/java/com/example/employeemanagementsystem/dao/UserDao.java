@@ -1,9 +1,15 @@
 package com.example.employeemanagementsystem.dao;
 
 import com.example.employeemanagementsystem.model.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +17,25 @@ import org.springframework.stereotype.Repository;
 public interface UserDao extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
-    @Query("SELECT u FROM User u JOIN u.employee e WHERE e.email = :email")
-    Optional<User> findByEmployeeEmail(@Param("email") String email);
-}
\ No newline at end of file
+    // One query for the login, the username and employee email lookups use their unique indexes.
+    // Returns two users when the login is the username of one and the email of another.
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles "
+         + "WHERE u.username = :login "
+         + "OR u.id = (SELECT e.user.id FROM Employee e WHERE e.email = :login)")
+    List<User> findByUsernameOrEmployeeEmail(@Param("login") String login);
+
+    @Query("SELECT new com.example.employeemanagementsystem.dao.UserRoleRow(u.id, r.id, r.name) "
+         + "FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<UserRoleRow> findRolesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<User> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 "
+         + "WHERE u.id IN (SELECT ur.id FROM User ur JOIN ur.roles r WHERE r.id = :roleId)")
+    int incrementTokenVersionsByRoleId(@Param("roleId") Long roleId);
+}
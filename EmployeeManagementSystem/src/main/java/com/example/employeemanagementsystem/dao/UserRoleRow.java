@@ -0,0 +1,4 @@
+package com.example.employeemanagementsystem.dao;
+
+public record UserRoleRow(Long userId, Long roleId, String roleName) {
+}
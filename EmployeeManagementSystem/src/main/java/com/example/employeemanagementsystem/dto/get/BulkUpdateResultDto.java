@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.dto.get;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkUpdateResultDto {
+
+    private int affectedRows;
+}
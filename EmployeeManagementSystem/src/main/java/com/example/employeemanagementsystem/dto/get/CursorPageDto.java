@@ -0,0 +1,15 @@
+package com.example.employeemanagementsystem.dto.get;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+
+    // Opaque position to pass back as the cursor parameter, null on the last page.
+    private String next;
+}
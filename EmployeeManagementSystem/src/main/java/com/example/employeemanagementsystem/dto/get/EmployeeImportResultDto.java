@@ -0,0 +1,22 @@
+package com.example.employeemanagementsystem.dto.get;
+
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmployeeImportResultDto {
+
+    private long processedRows;
+
+    private long createdRows;
+
+    private long failedRowCount;
+
+    // The first failed rows only, see EmployeeImportTask.MAX_REPORTED_FAILURES.
+    private List<FailedRow> failedRows;
+
+    private double rowsPerSecond;
+}
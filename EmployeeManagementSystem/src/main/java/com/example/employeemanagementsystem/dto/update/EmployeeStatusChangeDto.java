@@ -0,0 +1,18 @@
+package com.example.employeemanagementsystem.dto.update;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeStatusChangeDto {
+
+    @NotEmpty(message = "Employee IDs cannot be empty")
+    private List<Long> ids;
+
+    @NotNull(message = "Active flag cannot be null")
+    private Boolean isActive;
+}
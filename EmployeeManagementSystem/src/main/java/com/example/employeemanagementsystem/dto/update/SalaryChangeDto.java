@@ -0,0 +1,23 @@
+package com.example.employeemanagementsystem.dto.update;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SalaryChangeDto {
+
+    private Long departmentId;
+
+    private Long positionId;
+
+    // Relative change, 10 raises every matching salary by 10%, -5 lowers it by 5%.
+    @NotNull(message = "Percent cannot be null")
+    @DecimalMin(value = "-100", inclusive = false, message = "Percent must be greater than -100")
+    @DecimalMax(value = "1000", message = "Percent cannot exceed 1000")
+    private BigDecimal percent;
+}
@@ -1,15 +1,26 @@
 package com.example.employeemanagementsystem.mapper;
 
 import com.example.employeemanagementsystem.dao.DepartmentDao;
+import com.example.employeemanagementsystem.dao.EmployeeRow;
 import com.example.employeemanagementsystem.dao.PositionDao;
 import com.example.employeemanagementsystem.dao.UserDao; 
+import com.example.employeemanagementsystem.dao.UserRoleRow;
 import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.DepartmentDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
+import com.example.employeemanagementsystem.dto.get.PositionDto;
+import com.example.employeemanagementsystem.dto.get.RoleDto;
+import com.example.employeemanagementsystem.dto.get.UserDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.model.Department;
 import com.example.employeemanagementsystem.model.Employee;
 import com.example.employeemanagementsystem.model.Position;
 import com.example.employeemanagementsystem.model.User;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -38,6 +49,16 @@ public abstract class EmployeeMapper {
     @Mapping(source = "userId", target = "user") 
     public abstract Employee toEntity(EmployeeCreateDto dto);
 
+    /**
+     * Maps only the scalar fields, leaving the references to the caller that resolved them in
+     * bulk.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "department", ignore = true)
+    @Mapping(target = "position", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    public abstract Employee toEntityWithoutReferences(EmployeeCreateDto dto);
+
     public abstract EmployeeDto toDto(Employee entity);
 
     @Mapping(target = "id", ignore = true)
@@ -48,6 +69,58 @@ public abstract class EmployeeMapper {
                                                @MappingTarget Employee entity);
 
 
+    /**
+     * Assembles employee DTOs from projected rows and the roles of their users, the read-only
+     * counterpart of {@link #toDto(Employee)}.
+     */
+    public List<EmployeeDto> toDtos(List<EmployeeRow> rows, List<UserRoleRow> userRoles) {
+        Map<Long, Set<RoleDto>> rolesByUserId = new HashMap<>();
+        for (UserRoleRow userRole : userRoles) {
+            RoleDto role = new RoleDto();
+            role.setId(userRole.roleId());
+            role.setName(userRole.roleName());
+            rolesByUserId.computeIfAbsent(userRole.userId(), id -> new LinkedHashSet<>()).add(role);
+        }
+        return rows.stream()
+            .map(row -> toDto(row, rolesByUserId.getOrDefault(row.userId(), Set.of())))
+            .toList();
+    }
+
+    private static EmployeeDto toDto(EmployeeRow row, Set<RoleDto> roles) {
+        EmployeeDto employee = new EmployeeDto();
+        employee.setId(row.id());
+        employee.setFirstName(row.firstName());
+        employee.setLastName(row.lastName());
+        employee.setEmail(row.email());
+        employee.setHireDate(row.hireDate());
+        employee.setSalary(row.salary());
+        employee.setIsActive(row.isActive());
+        if (row.departmentId() != null) {
+            DepartmentDto department = new DepartmentDto();
+            department.setId(row.departmentId());
+            department.setName(row.departmentName());
+            department.setDescription(row.departmentDescription());
+            employee.setDepartment(department);
+        }
+        if (row.positionId() != null) {
+            PositionDto position = new PositionDto();
+            position.setId(row.positionId());
+            position.setName(row.positionName());
+            position.setDescription(row.positionDescription());
+            position.setMinSalary(row.positionMinSalary());
+            position.setMaxSalary(row.positionMaxSalary());
+            employee.setPosition(position);
+        }
+        if (row.userId() != null) {
+            UserDto user = new UserDto();
+            user.setId(row.userId());
+            user.setUsername(row.username());
+            user.setRoles(roles);
+            employee.setUser(user);
+        }
+        return employee;
+    }
+
     protected Department departmentFromId(Long departmentId) {
         return departmentId == null ? null
             : departmentDao.findById(departmentId)
@@ -16,6 +16,7 @@ public abstract class UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employee", ignore = true)
     @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     public abstract User toEntity(UserCreateDto userCreateDto);
 
     @Mapping(target = "employee", ignore = true)
@@ -24,5 +25,6 @@ public abstract class UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "employee", ignore = true)
     @Mapping(target = "roles", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     public abstract void updateUserFromDto(UserCreateDto dto, @MappingTarget User entity);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.employeemanagementsystem.model;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Security principal that also knows the user id and token version, the two values a token is
+ * checked against. Built from the database on login and from the token claims on every other
+ * request, where the password is empty.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+    private final int tokenVersion;
+
+    public AuthenticatedUser(Long userId, String username, String password, int tokenVersion,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+    }
+}
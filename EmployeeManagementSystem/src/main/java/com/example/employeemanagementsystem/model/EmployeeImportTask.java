@@ -0,0 +1,101 @@
+package com.example.employeemanagementsystem.model;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.Getter;
+
+/**
+ * State of an asynchronous employee import. Only the import thread changes it, the status
+ * endpoint reads it concurrently.
+ */
+@Getter
+public class EmployeeImportTask {
+
+    public static final int MAX_REPORTED_FAILURES = 1_000;
+
+    private final String taskId;
+    private final int totalRows;
+    private final int chunkSize;
+    private final List<FailedRow> failedRows = new CopyOnWriteArrayList<>();
+
+    @JsonIgnore
+    private volatile List<EmployeeCreateDto> rows;
+    private volatile String status = "PENDING";
+    private volatile int committedChunks;
+    private volatile int processedRows;
+    private volatile int createdRows;
+    private volatile int failedRowCount;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    public EmployeeImportTask(String taskId, List<EmployeeCreateDto> rows, int chunkSize) {
+        this.taskId = taskId;
+        this.rows = rows;
+        this.totalRows = rows.size();
+        this.chunkSize = chunkSize;
+    }
+
+    public int getNextRow() {
+        return committedChunks * chunkSize;
+    }
+
+    public double getRowsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        Instant end = finishedAt == null ? Instant.now() : finishedAt;
+        long millis = Math.max(1, Duration.between(start, end).toMillis());
+        return processedRows * 1000.0 / millis;
+    }
+
+    public boolean isResumable() {
+        return "FAILED".equals(status) && rows != null;
+    }
+
+    public void markPending() {
+        status = "PENDING";
+        errorMessage = null;
+        finishedAt = null;
+    }
+
+    public void markRunning() {
+        if (startedAt == null) {
+            startedAt = Instant.now();
+        }
+        status = "RUNNING";
+    }
+
+    public void recordChunk(int chunkRows, List<FailedRow> failures) {
+        for (FailedRow failure : failures) {
+            if (failedRows.size() < MAX_REPORTED_FAILURES) {
+                failedRows.add(failure);
+            }
+        }
+        failedRowCount += failures.size();
+        createdRows += chunkRows - failures.size();
+        processedRows += chunkRows;
+        committedChunks++;
+    }
+
+    public void markCompleted() {
+        rows = null;
+        finishedAt = Instant.now();
+        status = "COMPLETED";
+    }
+
+    public void markFailed(String message) {
+        errorMessage = message;
+        finishedAt = Instant.now();
+        status = "FAILED";
+    }
+
+    /** A row that was skipped, by its zero-based position in the submitted list. */
+    public record FailedRow(int row, String message) {
+    }
+}
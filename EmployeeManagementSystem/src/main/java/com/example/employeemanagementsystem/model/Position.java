@@ -16,6 +16,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -24,6 +26,7 @@ import lombok.ToString;
 @ToString(exclude = "employees")
 @Entity
 @Table(name = "positions")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "positions")
 public class Position {
 
     @Id
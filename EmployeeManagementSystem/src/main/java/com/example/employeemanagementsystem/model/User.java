@@ -18,6 +18,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -37,7 +40,15 @@ public class User {
 
     private String password;
 
+    // Part of every issued token, raising it revokes the tokens issued before.
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    // Roles of a page of users are initialized together, a batch per query, instead of one
+    // query per user.
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
+    @BatchSize(size = 50)
     @JoinTable(
         name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id"),
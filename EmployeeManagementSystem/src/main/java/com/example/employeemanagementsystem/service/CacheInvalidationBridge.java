@@ -0,0 +1,62 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import com.example.employeemanagementsystem.utils.InvalidationListener;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connects every distributed {@link InMemoryCache} bean to the {@link CacheInvalidationBus}:
+ * local writes are published under the bean name, and invalidations received from other nodes
+ * are applied without being published again.
+ */
+@Component
+public class CacheInvalidationBridge {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBridge.class);
+
+    private final Map<String, InMemoryCache<?, ?>> caches;
+    private final CacheInvalidationBus bus;
+
+    @Autowired
+    public CacheInvalidationBridge(Map<String, InMemoryCache<?, ?>> caches,
+                                   CacheInvalidationBus bus) {
+        this.caches = caches;
+        this.bus = bus;
+    }
+
+    @PostConstruct
+    public void bindCaches() {
+        caches.forEach((name, cache) -> {
+            if (cache.isDistributed()) {
+                bind(name, cache);
+                logger.info("Cache {} bound to the invalidation bus.", name);
+            }
+        });
+    }
+
+    private <K> void bind(String name, InMemoryCache<K, ?> cache) {
+        bus.subscribe(name, key -> {
+            if (key == null) {
+                cache.invalidateAllLocally();
+            } else {
+                cache.invalidateLocally(key);
+            }
+        });
+        cache.addInvalidationListener(new InvalidationListener<K>() {
+            @Override
+            public void onInvalidate(K key) {
+                bus.publish(name, String.valueOf(key));
+            }
+
+            @Override
+            public void onInvalidateAll() {
+                bus.publish(name, null);
+            }
+        });
+    }
+}
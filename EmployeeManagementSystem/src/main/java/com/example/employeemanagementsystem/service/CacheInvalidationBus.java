@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between application nodes. A published invalidation is delivered
+ * to the handlers subscribed to the same cache name on every other node, never back to the
+ * publisher.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Broadcasts the invalidation of {@code key} in {@code cacheName}, or of the whole cache when
+     * {@code key} is {@code null}. Inside a transaction the message may be held back until
+     * commit.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers a handler for invalidations of {@code cacheName} received from other nodes. The
+     * handler gets the key, or {@code null} when the whole cache has to be dropped.
+     */
+    void subscribe(String cacheName, Consumer<String> handler);
+}
@@ -9,7 +9,10 @@ import com.example.employeemanagementsystem.mapper.DepartmentMapper;
 import com.example.employeemanagementsystem.model.Department;
 import com.example.employeemanagementsystem.model.Employee;
 import com.example.employeemanagementsystem.utils.InMemoryCache;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,40 +29,56 @@ public class DepartmentService {
     private final DepartmentDao departmentDao;
     private final DepartmentMapper departmentMapper;
     private final UserService userService;
-    private final InMemoryCache<Long, Department> departmentCache;
+    private final InMemoryCache<Long, DepartmentDto> departmentCache;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
     public DepartmentService(
         DepartmentDao departmentDao,
         DepartmentMapper departmentMapper,
         UserService userService,
-        InMemoryCache<Long, Department> departmentCache) {
+        InMemoryCache<Long, DepartmentDto> departmentCache,
+        JsonResponseCache jsonResponseCache) {
         this.departmentDao = departmentDao;
         this.departmentMapper = departmentMapper;
         this.userService = userService;
         this.departmentCache = departmentCache;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @Transactional(readOnly = true)
     public DepartmentDto getDepartmentById(Long id) {
-        logger.debug("Attempting to retrieve department with id {} from cache.", id);
-        Department cachedDepartment = departmentCache.get(id);
-        if (cachedDepartment != null) {
-            logger.info("Department with id {} retrieved from cache.", id);
-            return departmentMapper.toDto(cachedDepartment);
+        logger.debug("Retrieving department with id {} through cache.", id);
+        DepartmentDto department = departmentCache.get(id, key -> {
+            logger.debug("Department with id {} not found in cache. Retrieving from database.",
+                key);
+            return departmentDao.findById(key).map(departmentMapper::toDto).orElse(null);
+        });
+        if (department == null) {
+            logger.warn("Department with id {} not found.", id);
+            throw new ResourceNotFoundException(DEPARTMENT_NOT_FOUND_MESSAGE + id);
         }
 
-        logger.debug("Department with id {} not found in cache. Retrieving from database.", id);
-        Department department = departmentDao
-            .findById(id)
-            .orElseThrow(() -> {
-                logger.warn("Department with id {} not found.", id);
-                return new ResourceNotFoundException(DEPARTMENT_NOT_FOUND_MESSAGE + id);
-            });
+        logger.info("Department with id {} retrieved.", id);
+        return department;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> getDepartmentsByIds(List<Long> ids) {
+        logger.debug("Retrieving departments with ids {} through cache.", ids);
+        Map<Long, DepartmentDto> departments = departmentCache.getAll(ids, missingIds -> {
+            logger.debug("Departments with ids {} not found in cache. Retrieving from database.",
+                missingIds);
+            return departmentDao.findAllById(missingIds).stream()
+                .map(departmentMapper::toDto)
+                .collect(Collectors.toMap(DepartmentDto::getId, Function.identity()));
+        });
+        if (departments.size() < new HashSet<>(ids).size()) {
+            logger.warn("Some of the departments with ids {} were not found.", ids);
+        }
 
-        logger.info("Department with id {} retrieved from database.", id);
-        departmentCache.put(id, department);
-        return departmentMapper.toDto(department);
+        logger.info("Retrieved {} departments by ids.", departments.size());
+        return List.copyOf(departments.values());
     }
 
     @Transactional(readOnly = true)
@@ -82,9 +101,12 @@ public class DepartmentService {
         }
         Department department = departmentMapper.toEntity(departmentDto);
         Department savedDepartment = departmentDao.save(department);
-        departmentCache.put(savedDepartment.getId(), savedDepartment);
+        DepartmentDto savedDepartmentDto = departmentMapper.toDto(savedDepartment);
+        TransactionalCaches.putAfterCommit(departmentCache, savedDepartment.getId(),
+            savedDepartmentDto);
+        jsonResponseCache.invalidate(JsonResponseCache.DEPARTMENTS);
         logger.info("Department with id {} created and added to cache.", savedDepartment.getId());
-        return departmentMapper.toDto(savedDepartment);
+        return savedDepartmentDto;
     }
 
     @Transactional
@@ -107,9 +129,11 @@ public class DepartmentService {
 
         departmentMapper.updateDepartmentFromDto(departmentDto, department);
         Department updatedDepartment = departmentDao.save(department);
-        departmentCache.put(id, updatedDepartment);
-        logger.info("Department with id {} updated and cache updated.", id);
-        return departmentMapper.toDto(updatedDepartment);
+        DepartmentDto updatedDepartmentDto = departmentMapper.toDto(updatedDepartment);
+        TransactionalCaches.evict(departmentCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.DEPARTMENTS);
+        logger.info("Department with id {} updated and evicted from cache.", id);
+        return updatedDepartmentDto;
     }
 
     @Transactional
@@ -127,7 +151,8 @@ public class DepartmentService {
             }
         }
 
-        departmentCache.evict(id);
+        TransactionalCaches.evict(departmentCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.DEPARTMENTS);
         logger.info("Department with id {} removed from cache.", id);
         departmentDao.delete(department);
         logger.info("Department with id {} deleted.", id);
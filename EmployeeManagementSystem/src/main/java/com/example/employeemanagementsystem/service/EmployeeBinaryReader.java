@@ -0,0 +1,118 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Reads employees from the compact binary import format. The input starts with the {@code int}
+ * {@link #MAGIC}, followed by one record per employee: an {@code int} length and that many
+ * bytes. A record holds a {@code short} mask of the fields present and then each present field
+ * in the order of the {@code FIELD_} bits, encoded as by {@link java.io.DataOutput}: names and
+ * email as UTF strings, hireDate as an {@code int} epoch day, salary as a {@code byte} scale and
+ * a {@code long} unscaled value, isActive as a {@code boolean} and the ids as {@code long}s.
+ */
+class EmployeeBinaryReader implements EmployeeRowReader {
+
+    /** {@code "EMS1"} in ASCII. */
+    static final int MAGIC = 0x454D5331;
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    static final int FIELD_FIRST_NAME = 1;
+    static final int FIELD_LAST_NAME = 1 << 1;
+    static final int FIELD_EMAIL = 1 << 2;
+    static final int FIELD_HIRE_DATE = 1 << 3;
+    static final int FIELD_SALARY = 1 << 4;
+    static final int FIELD_IS_ACTIVE = 1 << 5;
+    static final int FIELD_DEPARTMENT_ID = 1 << 6;
+    static final int FIELD_POSITION_ID = 1 << 7;
+    static final int FIELD_USER_ID = 1 << 8;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataInputStream in;
+
+    EmployeeBinaryReader(InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+        int magic;
+        try {
+            magic = in.readInt();
+        } catch (EOFException e) {
+            throw new ValidationException("Binary input has no header");
+        }
+        if (magic != MAGIC) {
+            throw new ValidationException("Binary input does not start with the EMS1 header");
+        }
+    }
+
+    @Override
+    public EmployeeCreateDto next() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        byte[] record;
+        try {
+            int length = first << 24 | in.readUnsignedByte() << 16
+                | in.readUnsignedByte() << 8 | in.readUnsignedByte();
+            if (length < Short.BYTES || length > MAX_RECORD_LENGTH) {
+                throw new ValidationException("Invalid binary record length " + length);
+            }
+            record = new byte[length];
+            in.readFully(record);
+        } catch (EOFException e) {
+            throw new ValidationException("Binary input ends inside a record");
+        }
+        return decode(record);
+    }
+
+    private static EmployeeCreateDto decode(byte[] record) {
+        DataInputStream fields = new DataInputStream(new ByteArrayInputStream(record));
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        try {
+            int mask = fields.readUnsignedShort();
+            if ((mask & FIELD_FIRST_NAME) != 0) {
+                dto.setFirstName(fields.readUTF());
+            }
+            if ((mask & FIELD_LAST_NAME) != 0) {
+                dto.setLastName(fields.readUTF());
+            }
+            if ((mask & FIELD_EMAIL) != 0) {
+                dto.setEmail(fields.readUTF());
+            }
+            if ((mask & FIELD_HIRE_DATE) != 0) {
+                dto.setHireDate(LocalDate.ofEpochDay(fields.readInt()));
+            }
+            if ((mask & FIELD_SALARY) != 0) {
+                int scale = fields.readByte();
+                dto.setSalary(BigDecimal.valueOf(fields.readLong(), scale));
+            }
+            if ((mask & FIELD_IS_ACTIVE) != 0) {
+                dto.setIsActive(fields.readBoolean());
+            }
+            if ((mask & FIELD_DEPARTMENT_ID) != 0) {
+                dto.setDepartmentId(fields.readLong());
+            }
+            if ((mask & FIELD_POSITION_ID) != 0) {
+                dto.setPositionId(fields.readLong());
+            }
+            if ((mask & FIELD_USER_ID) != 0) {
+                dto.setUserId(fields.readLong());
+            }
+            if (fields.available() > 0) {
+                throw new IllegalArgumentException("Malformed binary record: trailing bytes");
+            }
+        } catch (IOException | DateTimeException e) {
+            throw new IllegalArgumentException("Malformed binary record", e);
+        }
+        return dto;
+    }
+}
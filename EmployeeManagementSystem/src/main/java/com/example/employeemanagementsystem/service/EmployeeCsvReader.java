@@ -0,0 +1,136 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads employees from CSV one record at a time. Columns are matched by the names in the header,
+ * so a file written by the CSV export can be imported as it is; unknown columns are ignored.
+ */
+class EmployeeCsvReader implements EmployeeRowReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    EmployeeCsvReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(
+            new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new ValidationException("CSV input has no header");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("userId")) {
+            throw new ValidationException("CSV header has no userId column");
+        }
+    }
+
+    @Override
+    public EmployeeCreateDto next() throws IOException {
+        List<String> record = readRecord();
+        while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+            record = readRecord();
+        }
+        return record == null ? null : toDto(record);
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new ValidationException("CSV input ends inside a quoted field");
+                }
+                if (c != '"') {
+                    field.append((char) c);
+                } else {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                }
+            } else if (c < 0 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private EmployeeCreateDto toDto(List<String> record) {
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setFirstName(text(record, "firstName"));
+        dto.setLastName(text(record, "lastName"));
+        dto.setEmail(text(record, "email"));
+        dto.setHireDate(parse(record, "hireDate", LocalDate::parse));
+        dto.setSalary(parse(record, "salary", BigDecimal::new));
+        dto.setIsActive(parse(record, "isActive", EmployeeCsvReader::parseBoolean));
+        dto.setDepartmentId(parse(record, "departmentId", Long::valueOf));
+        dto.setPositionId(parse(record, "positionId", Long::valueOf));
+        dto.setUserId(parse(record, "userId", Long::valueOf));
+        return dto;
+    }
+
+    private String text(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private <T> T parse(List<String> record, String column, Function<String, T> parser) {
+        String value = text(record, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(value);
+    }
+}
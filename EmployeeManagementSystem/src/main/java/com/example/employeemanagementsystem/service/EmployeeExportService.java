@@ -0,0 +1,150 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.EmployeeDao;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.mapper.EmployeeMapper;
+import com.example.employeemanagementsystem.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes every employee to a stream one row at a time. Rows are read through a database cursor
+ * and the persistence context is cleared every {@link #CLEAR_INTERVAL} rows, so memory use does
+ * not grow with the size of the table.
+ */
+@Service
+public class EmployeeExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportService.class);
+    private static final String CSV_HEADER = "id,firstName,lastName,email,hireDate,salary,"
+        + "isActive,departmentId,departmentName,positionId,positionName,userId,username";
+
+    private final EmployeeDao employeeDao;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Unsupported export format: " + name);
+            }
+        }
+    }
+
+    @Autowired
+    public EmployeeExportService(EmployeeDao employeeDao,
+                                 EmployeeMapper employeeMapper,
+                                 ObjectMapper objectMapper,
+                                 EntityManager entityManager) {
+        this.employeeDao = employeeDao;
+        this.employeeMapper = employeeMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportEmployees(Format format, OutputStream out) throws IOException {
+        logger.debug("Exporting employees as {}.", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<Employee> employees = employeeDao.streamAll()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsv(employee, writer);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(employeeMapper.toDto(employee)));
+                }
+                writer.write('\n');
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} employees as {}.", count, format);
+        return count;
+    }
+
+    private static void writeCsv(Employee employee, Writer writer) throws IOException {
+        writer.write(String.valueOf(employee.getId()));
+        writeCsvField(employee.getFirstName(), writer);
+        writeCsvField(employee.getLastName(), writer);
+        writeCsvField(employee.getEmail(), writer);
+        writeCsvField(employee.getHireDate(), writer);
+        writeCsvField(employee.getSalary() == null ? null : employee.getSalary().toPlainString(),
+            writer);
+        writeCsvField(employee.getIsActive(), writer);
+        writeCsvField(employee.getDepartment() == null ? null : employee.getDepartment().getId(),
+            writer);
+        writeCsvField(employee.getDepartment() == null ? null
+            : employee.getDepartment().getName(), writer);
+        writeCsvField(employee.getPosition() == null ? null : employee.getPosition().getId(),
+            writer);
+        writeCsvField(employee.getPosition() == null ? null : employee.getPosition().getName(),
+            writer);
+        writeCsvField(employee.getUser() == null ? null : employee.getUser().getId(), writer);
+        writeCsvField(employee.getUser() == null ? null : employee.getUser().getUsername(),
+            writer);
+    }
+
+    private static void writeCsvField(Object value, Writer writer) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+            && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
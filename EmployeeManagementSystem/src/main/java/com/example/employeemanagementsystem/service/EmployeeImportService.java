@@ -0,0 +1,71 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.model.EmployeeImportTask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmployeeImportService {
+
+    private static final String TASK_NOT_FOUND_MESSAGE = "Import task not found with id ";
+
+    private final Map<String, EmployeeImportTask> tasks = new ConcurrentHashMap<>();
+    private final EmployeeImportWorker importWorker;
+
+    @Autowired
+    public EmployeeImportService(EmployeeImportWorker importWorker) {
+        this.importWorker = importWorker;
+    }
+
+    public String createImportTask(List<EmployeeCreateDto> employeeDtos) {
+        if (employeeDtos == null || employeeDtos.isEmpty()) {
+            throw new ValidationException("Employee list cannot be null or empty");
+        }
+        if (employeeDtos.size() > EmployeeService.MAX_BULK_SIZE) {
+            throw new ValidationException(
+                "Import is limited to " + EmployeeService.MAX_BULK_SIZE + " employees");
+        }
+        String taskId = UUID.randomUUID().toString();
+        EmployeeImportTask task = new EmployeeImportTask(taskId, new ArrayList<>(employeeDtos),
+            EmployeeService.BULK_CHUNK_SIZE);
+        tasks.put(taskId, task);
+        submit(task);
+        return taskId;
+    }
+
+    public EmployeeImportTask getTaskStatus(String taskId) {
+        return tasks.get(taskId);
+    }
+
+    /** Restarts a failed import from the first row after its last committed chunk. */
+    public synchronized EmployeeImportTask resumeImportTask(String taskId) {
+        EmployeeImportTask task = tasks.get(taskId);
+        if (task == null) {
+            throw new ResourceNotFoundException(TASK_NOT_FOUND_MESSAGE + taskId);
+        }
+        if (!task.isResumable()) {
+            throw new ValidationException("Import task " + taskId + " cannot be resumed in status "
+                + task.getStatus());
+        }
+        task.markPending();
+        submit(task);
+        return task;
+    }
+
+    private void submit(EmployeeImportTask task) {
+        try {
+            importWorker.runImportAsync(task);
+        } catch (TaskRejectedException e) {
+            task.markFailed("Too many imports in progress, resume the task later");
+        }
+    }
+}
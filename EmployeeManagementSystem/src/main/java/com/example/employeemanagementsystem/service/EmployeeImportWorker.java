@@ -0,0 +1,58 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.model.EmployeeImportTask;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmployeeImportWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportWorker.class);
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeImportWorker(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * Imports the rows of the task chunk by chunk, starting after the last committed chunk.
+     * Every chunk commits on its own, so a failure only loses the chunk in progress.
+     */
+    @Async("employeeImportExecutor")
+    public void runImportAsync(EmployeeImportTask task) {
+        logger.info("Starting employee import {} at row {} in thread {}",
+            task.getTaskId(), task.getNextRow(), Thread.currentThread().getName());
+        task.markRunning();
+        List<EmployeeCreateDto> rows = task.getRows();
+        for (int from = task.getNextRow(); from < rows.size(); from = task.getNextRow()) {
+            if (Thread.currentThread().isInterrupted()) {
+                task.markFailed("Import interrupted at row " + from);
+                return;
+            }
+            List<EmployeeCreateDto> chunk =
+                rows.subList(from, Math.min(from + task.getChunkSize(), rows.size()));
+            try {
+                List<FailedRow> failures = employeeService.importChunk(chunk, from);
+                task.recordChunk(chunk.size(), failures);
+            } catch (RuntimeException e) {
+                logger.error("Employee import {} failed at row {}: {}",
+                    task.getTaskId(), from, e.getMessage());
+                task.markFailed("Failed to import rows starting at " + from + ": "
+                    + e.getMessage());
+                return;
+            }
+        }
+        task.markCompleted();
+        logger.info("Employee import {} completed: {} created, {} failed, {} rows/s",
+            task.getTaskId(), task.getCreatedRows(), task.getFailedRowCount(),
+            String.format("%.1f", task.getRowsPerSecond()));
+    }
+}
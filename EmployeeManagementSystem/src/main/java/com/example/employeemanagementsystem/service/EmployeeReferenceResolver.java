@@ -0,0 +1,165 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.DepartmentDao;
+import com.example.employeemanagementsystem.dao.PositionDao;
+import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.model.Department;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.Position;
+import com.example.employeemanagementsystem.model.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the users, departments and positions referenced by a bulk of employees with one
+ * query per entity type instead of one per row, and reports every broken reference at once.
+ */
+@Component
+public class EmployeeReferenceResolver {
+
+    /** Keeps every {@code IN} list well below the PostgreSQL limit on bind parameters. */
+    static final int ID_BATCH_SIZE = 10_000;
+    static final int MAX_REPORTED_IDS = 100;
+
+    private final UserDao userDao;
+    private final DepartmentDao departmentDao;
+    private final PositionDao positionDao;
+
+    @Autowired
+    public EmployeeReferenceResolver(UserDao userDao, DepartmentDao departmentDao,
+                                     PositionDao positionDao) {
+        this.userDao = userDao;
+        this.departmentDao = departmentDao;
+        this.positionDao = positionDao;
+    }
+
+    /**
+     * Loads the references of all rows and fails with a report of every row that cannot be
+     * created.
+     */
+    public EmployeeReferences resolve(List<EmployeeCreateDto> employeeDtos) {
+        EmployeeReferences references = collect(employeeDtos);
+        List<String> errors = new ArrayList<>();
+        List<Integer> incomplete = new ArrayList<>();
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            EmployeeCreateDto dto = employeeDtos.get(i);
+            if (dto == null || dto.getUserId() == null) {
+                incomplete.add(i);
+            }
+        }
+        if (!incomplete.isEmpty()) {
+            errors.add("employee DTO or user ID is null at positions " + summarize(incomplete));
+        }
+        reportMissing(errors, "users", distinctIds(employeeDtos, EmployeeCreateDto::getUserId),
+            references.users());
+        reportMissing(errors, "departments",
+            distinctIds(employeeDtos, EmployeeCreateDto::getDepartmentId),
+            references.departments());
+        reportMissing(errors, "positions",
+            distinctIds(employeeDtos, EmployeeCreateDto::getPositionId),
+            references.positions());
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Bulk creation failed: " + String.join("; ", errors));
+        }
+        return references;
+    }
+
+    /**
+     * Loads the references of all rows without validating them, leaving it to the caller to
+     * skip the rows reported by {@link EmployeeReferences#problemOf(EmployeeCreateDto)}.
+     */
+    public EmployeeReferences collect(List<EmployeeCreateDto> employeeDtos) {
+        return new EmployeeReferences(
+            load(distinctIds(employeeDtos, EmployeeCreateDto::getUserId),
+                userDao::findByIdIn, User::getId),
+            load(distinctIds(employeeDtos, EmployeeCreateDto::getDepartmentId),
+                departmentDao::findAllById, Department::getId),
+            load(distinctIds(employeeDtos, EmployeeCreateDto::getPositionId),
+                positionDao::findAllById, Position::getId));
+    }
+
+    private static Set<Long> distinctIds(List<EmployeeCreateDto> employeeDtos,
+                                         Function<EmployeeCreateDto, Long> idOf) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (EmployeeCreateDto dto : employeeDtos) {
+            if (dto != null && dto.getUserId() != null && idOf.apply(dto) != null) {
+                ids.add(idOf.apply(dto));
+            }
+        }
+        return ids;
+    }
+
+    private static <T> Map<Long, T> load(Set<Long> ids,
+                                         Function<Collection<Long>, List<T>> finder,
+                                         Function<T, Long> idOf) {
+        Map<Long, T> loaded = new HashMap<>();
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += ID_BATCH_SIZE) {
+            finder.apply(pending.subList(from, Math.min(from + ID_BATCH_SIZE, pending.size())))
+                .forEach(entity -> loaded.put(idOf.apply(entity), entity));
+        }
+        return loaded;
+    }
+
+    private static void reportMissing(List<String> errors, String name, Set<Long> ids,
+                                      Map<Long, ?> loaded) {
+        List<Long> missing = ids.stream()
+            .filter(id -> !loaded.containsKey(id))
+            .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            errors.add(name + " not found with ids " + summarize(missing));
+        }
+    }
+
+    private static String summarize(List<?> values) {
+        if (values.size() <= MAX_REPORTED_IDS) {
+            return values.toString();
+        }
+        return values.subList(0, MAX_REPORTED_IDS) + " and " + (values.size() - MAX_REPORTED_IDS)
+            + " more";
+    }
+
+    /** Loaded references of a bulk, keyed by id. */
+    public record EmployeeReferences(Map<Long, User> users,
+                                     Map<Long, Department> departments,
+                                     Map<Long, Position> positions) {
+
+        public Employee attach(EmployeeCreateDto dto, Employee employee) {
+            employee.setUser(users.get(dto.getUserId()));
+            employee.setDepartment(
+                dto.getDepartmentId() == null ? null : departments.get(dto.getDepartmentId()));
+            employee.setPosition(
+                dto.getPositionId() == null ? null : positions.get(dto.getPositionId()));
+            return employee;
+        }
+
+        /** Describes why the row cannot be created, or returns {@code null} if it can. */
+        public String problemOf(EmployeeCreateDto dto) {
+            if (dto == null || dto.getUserId() == null) {
+                return "Employee DTO or user ID cannot be null";
+            }
+            if (!users.containsKey(dto.getUserId())) {
+                return "User not found with id " + dto.getUserId();
+            }
+            if (dto.getDepartmentId() != null && !departments.containsKey(dto.getDepartmentId())) {
+                return "Department not found with id " + dto.getDepartmentId();
+            }
+            if (dto.getPositionId() != null && !positions.containsKey(dto.getPositionId())) {
+                return "Position not found with id " + dto.getPositionId();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import java.io.IOException;
+
+/** Source of employees parsed one at a time from an import stream. */
+interface EmployeeRowReader {
+
+    /**
+     * Returns the next employee, or {@code null} at the end of the input. A row that cannot be
+     * parsed is consumed and reported with an {@link IllegalArgumentException}, so reading can
+     * go on with the next one; input that cannot be read any further fails with a
+     * {@link com.example.employeemanagementsystem.exception.ValidationException}.
+     */
+    EmployeeCreateDto next() throws IOException;
+}
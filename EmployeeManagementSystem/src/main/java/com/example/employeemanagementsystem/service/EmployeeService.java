@@ -1,39 +1,81 @@
 package com.example.employeemanagementsystem.service;
 
 import com.example.employeemanagementsystem.dao.EmployeeDao;
+import com.example.employeemanagementsystem.dao.EmployeeFilter;
+import com.example.employeemanagementsystem.dao.EmployeeRow;
 import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.dao.UserRoleRow;
 import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.CursorPageDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
+import com.example.employeemanagementsystem.dto.update.EmployeeStatusChangeDto;
+import com.example.employeemanagementsystem.dto.update.SalaryChangeDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.exception.ValidationException;
 import com.example.employeemanagementsystem.mapper.EmployeeMapper;
 import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
 import com.example.employeemanagementsystem.model.User;
+import com.example.employeemanagementsystem.service.EmployeeReferenceResolver.EmployeeReferences;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.scheduling.annotation.Async;
 
 @Service
 public class EmployeeService {
 
     private static final String EMPLOYEE_NOT_FOUND_MESSAGE = "Employee not found with id ";
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BULK_SIZE = 100_000;
+    static final int BULK_CHUNK_SIZE = 1_000;
+    // Stays well below the PostgreSQL limit on bind parameters in one statement.
+    static final int MAX_BULK_IDS = 10_000;
 
     private final EmployeeDao employeeDao;
     private final EmployeeMapper employeeMapper;
     private final UserDao userDao;
+    private final EmployeeReferenceResolver referenceResolver;
+    private final EntityManager entityManager;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final Validator validator;
 
     @Autowired
     public EmployeeService(EmployeeDao employeeDao,
                            EmployeeMapper employeeMapper,
-                           UserDao userDao) {
+                           UserDao userDao,
+                           EmployeeReferenceResolver referenceResolver,
+                           EntityManager entityManager,
+                           UserDetailsServiceImpl userDetailsService,
+                           Validator validator) {
         this.employeeDao = employeeDao;
         this.employeeMapper = employeeMapper;
         this.userDao = userDao;
+        this.referenceResolver = referenceResolver;
+        this.entityManager = entityManager;
+        this.userDetailsService = userDetailsService;
+        this.validator = validator;
     }
 
     @Transactional
@@ -49,32 +91,76 @@ public class EmployeeService {
         return employeeMapper.toDto(savedEmployee);
     }
 
+    /**
+     * Creates up to {@link #MAX_BULK_SIZE} employees. They are persisted in chunks of
+     * {@link #BULK_CHUNK_SIZE}, each flushed as JDBC insert batches and then detached, so the
+     * number of round trips and the size of the persistence context stay bounded. The referenced
+     * users, departments and positions are loaded and validated once for the whole bulk.
+     */
     @Transactional
     public List<EmployeeDto> createEmployeesBulk(List<EmployeeCreateDto> employeeDtos) {
         if (employeeDtos == null || employeeDtos.isEmpty()) {
             throw new ValidationException("Employee list cannot be null or empty");
         }
+        if (employeeDtos.size() > MAX_BULK_SIZE) {
+            throw new ValidationException(
+                "Bulk creation is limited to " + MAX_BULK_SIZE + " employees");
+        }
+
+        EmployeeReferences references = referenceResolver.resolve(employeeDtos);
+        List<EmployeeDto> createdEmployees = new ArrayList<>(employeeDtos.size());
+        for (int from = 0; from < employeeDtos.size(); from += BULK_CHUNK_SIZE) {
+            List<Employee> employees = employeeDtos
+                .subList(from, Math.min(from + BULK_CHUNK_SIZE, employeeDtos.size()))
+                .stream()
+                .map(dto -> references.attach(dto, employeeMapper.toEntityWithoutReferences(dto)))
+                .collect(Collectors.toList());
+
+            employeeDao.saveAll(employees).stream()
+                .map(employeeMapper::toDto)
+                .forEach(createdEmployees::add);
+            entityManager.flush();
+            // Only the new employees leave the context; the resolved references serve every chunk.
+            employees.forEach(entityManager::detach);
+        }
+        return createdEmployees;
+    }
 
-        List<Employee> employees = employeeDtos.stream()
-            .peek(dto -> {
-                if (dto == null || dto.getUserId() == null) {
-                    throw new ValidationException("Employee DTO "
-                        + "or user ID cannot be null in bulk creation");
-                }
-            })
-            .map(dto -> {
-                Employee employee = employeeMapper.toEntity(dto);
-                User user = userDao.findById(dto.getUserId())
-                    .orElseThrow(() -> new ResourceNotFoundException(
-                        "User not found with id " + dto.getUserId()));
-                employee.setUser(user);
-                return employee;
-            })
-            .collect(Collectors.toList());
-
-        return employeeDao.saveAll(employees).stream()
-            .map(employeeMapper::toDto)
-            .collect(Collectors.toList());
+    /**
+     * Persists one chunk of an import in its own transaction. Rows that fail bean validation,
+     * have broken references or reuse an email or user that already belongs to an employee are
+     * skipped and returned instead of failing the whole chunk.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<FailedRow> importChunk(List<EmployeeCreateDto> employeeDtos, int firstRow) {
+        EmployeeReferences references = referenceResolver.collect(employeeDtos);
+        // Seeded with the taken values, so duplicates within the chunk are caught as well.
+        Set<String> emails = distinct(employeeDtos, EmployeeCreateDto::getEmail);
+        Set<Long> userIds = distinct(employeeDtos, EmployeeCreateDto::getUserId);
+        Set<String> takenEmails = new HashSet<>(
+            emails.isEmpty() ? List.of() : employeeDao.findEmailsIn(emails));
+        Set<Long> takenUserIds = new HashSet<>(
+            userIds.isEmpty() ? List.of() : employeeDao.findUserIdsIn(userIds));
+        List<FailedRow> failures = new ArrayList<>();
+        List<Employee> employees = new ArrayList<>(employeeDtos.size());
+        for (int i = 0; i < employeeDtos.size(); i++) {
+            EmployeeCreateDto dto = employeeDtos.get(i);
+            String problem = references.problemOf(dto);
+            if (problem == null) {
+                problem = violationsOf(validator, dto);
+            }
+            if (problem == null) {
+                problem = uniquenessProblemOf(dto, takenEmails, takenUserIds);
+            }
+            if (problem != null) {
+                failures.add(new FailedRow(firstRow + i, problem));
+            } else {
+                Employee employee = employeeMapper.toEntityWithoutReferences(dto);
+                employees.add(references.attach(dto, employee));
+            }
+        }
+        employeeDao.saveAll(employees);
+        return failures;
     }
 
     @Transactional
@@ -83,6 +169,8 @@ public class EmployeeService {
             employeeDao
                 .findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND_MESSAGE + id));
+        String oldEmail = employee.getEmail();
+        User oldUser = employee.getUser();
 
         if (employeeDto.getUserId() != null
             && !employeeDto.getUserId().equals(employee.getUser().getId())) {
@@ -96,6 +184,12 @@ public class EmployeeService {
 
         employeeMapper.updateEmployeeFromDto(employeeDto, employee);
         Employee updatedEmployee = employeeDao.save(employee);
+        // Logins are cached by employee email too, both emails may now name another user.
+        if (!Objects.equals(oldEmail, updatedEmployee.getEmail())
+            || oldUser != updatedEmployee.getUser()) {
+            userDetailsService.evict(oldEmail);
+            userDetailsService.evict(updatedEmployee.getEmail());
+        }
         return employeeMapper.toDto(updatedEmployee);
     }
 
@@ -106,66 +200,218 @@ public class EmployeeService {
 
     @Transactional(readOnly = true)
     public EmployeeDto getEmployeeDtoById(Long id) {
-        return employeeDao.findById(id)
-            .map(employeeMapper::toDto)
+        EmployeeRow row = employeeDao.findRowById(id)
             .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND_MESSAGE + id));
+        return toDtos(List.of(row)).get(0);
     }
 
+    /**
+     * Returns one page of employees within the salary range. Without bounds the employees are
+     * ordered by id, otherwise by salary and id, which lets the salary index serve both the
+     * filter and the seek.
+     */
     @Transactional(readOnly = true)
-    @Async
-    public List<EmployeeDto> getAllEmployees() {
-        return employeeDao.findAll().stream().map(employeeMapper::toDto).toList();
+    public CursorPageDto<EmployeeDto> getEmployeePageBySalaryRange(
+        BigDecimal minSalary, BigDecimal maxSalary, String cursor, Integer size) {
+        return getEmployeePage(EmployeeFilter.bySalary(minSalary, maxSalary), cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<Employee> getEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
-        if (minSalary == null && maxSalary == null) {
-            return employeeDao.findAll();
-        } else if (minSalary == null) {
-            return employeeDao.findBySalaryLessThanEqual(maxSalary);
-        } else if (maxSalary == null) {
-            return employeeDao.findBySalaryGreaterThanEqual(minSalary);
-        } else {
-            return employeeDao.findBySalaryBetween(minSalary, maxSalary);
-        }
+    public CursorPageDto<EmployeeDto> getEmployeePageByDepartmentId(
+        Long departmentId, String cursor, Integer size) {
+        return getEmployeePage(
+            EmployeeFilter.byDepartmentAndPosition(departmentId, null), cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeDto> getEmployeesByDepartmentId(Long departmentId) {
-        List<Employee> employees = employeeDao.findByDepartmentId(departmentId);
-        return employees.stream().map(employeeMapper::toDto).toList();
+    public CursorPageDto<EmployeeDto> getEmployeePageByPositionId(
+        Long positionId, String cursor, Integer size) {
+        return getEmployeePage(
+            EmployeeFilter.byDepartmentAndPosition(null, positionId), cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeDto> getEmployeesByPositionId(Long positionId) {
-        List<Employee> employees = employeeDao.findByPositionId(positionId);
-        return employees.stream().map(employeeMapper::toDto).toList();
+    public CursorPageDto<EmployeeDto> getEmployeePageByDepartmentIdAndPositionId(
+        Long departmentId, Long positionId, String cursor, Integer size) {
+        return getEmployeePage(
+            EmployeeFilter.byDepartmentAndPosition(departmentId, positionId), cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeDto> getEmployeesByDepartmentIdAndPositionId(
-        Long departmentId, Long positionId) {
-        List<Employee> employees = employeeDao.findByDepartmentIdAndPositionId(
-            departmentId, positionId);
-        return employees.stream().map(employeeMapper::toDto).toList();
+    public CursorPageDto<EmployeeDto> getEmployeePageByRoleName(
+        String roleName, String cursor, Integer size) {
+        return getEmployeePage(EmployeeFilter.byRoleName(roleName), cursor, size);
     }
 
-    @Transactional(readOnly = true)
-    public List<EmployeeDto> getEmployeesByRoleNameNative(String roleName) {
-        List<Employee> employees = employeeDao.findByRoleNameNative(roleName);
-        return employees.stream().map(employeeMapper::toDto).toList();
+    @Transactional
+    public void deleteEmployee(Long id) {
+        Employee employee = employeeDao.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(EMPLOYEE_NOT_FOUND_MESSAGE + id));
+        userDetailsService.evict(employee.getEmail());
+        employeeDao.delete(employee);
     }
 
+    /** Scales the salaries of a department, a position or both in one UPDATE statement. */
     @Transactional
-    public void deleteEmployee(Long id) {
-        if (!employeeDao.existsById(id)) {
-            throw new ResourceNotFoundException(EMPLOYEE_NOT_FOUND_MESSAGE + id);
+    public int changeSalaries(SalaryChangeDto salaryChangeDto) {
+        if (salaryChangeDto.getDepartmentId() == null && salaryChangeDto.getPositionId() == null) {
+            throw new ValidationException("Department ID or position ID must be provided");
         }
-        employeeDao.deleteById(id);
+        BigDecimal factor = BigDecimal.ONE.add(salaryChangeDto.getPercent().movePointLeft(2));
+        return employeeDao.scaleSalaries(factor, salaryChangeDto.getDepartmentId(),
+            salaryChangeDto.getPositionId());
+    }
+
+    @Transactional
+    public int changeStatus(EmployeeStatusChangeDto statusChangeDto) {
+        validateBulkIds(statusChangeDto.getIds());
+        return employeeDao.updateIsActiveByIds(statusChangeDto.getIds(),
+            statusChangeDto.getIsActive());
+    }
+
+    @Transactional
+    public int deleteEmployees(List<Long> ids) {
+        validateBulkIds(ids);
+        // The emails of the deleted employees are not loaded, every cached login is dropped.
+        userDetailsService.evictAll();
+        return employeeDao.deleteByIds(ids);
     }
 
     @Transactional
     public Employee updateEmployeeWithoutDto(Employee employee) {
         return employeeDao.save(employee);
     }
-}
\ No newline at end of file
+
+    /** Joins the messages of the constraint violations of {@code dto}, {@code null} if valid. */
+    static String violationsOf(Validator validator, EmployeeCreateDto dto) {
+        Set<ConstraintViolation<EmployeeCreateDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private static <T> Set<T> distinct(List<EmployeeCreateDto> employeeDtos,
+                                       Function<EmployeeCreateDto, T> valueOf) {
+        return employeeDtos.stream()
+            .filter(Objects::nonNull)
+            .map(valueOf)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    // Claims the email and user of a valid row, the rows after it may not use them again.
+    private static String uniquenessProblemOf(EmployeeCreateDto dto, Set<String> takenEmails,
+                                              Set<Long> takenUserIds) {
+        if (dto.getEmail() != null && takenEmails.contains(dto.getEmail())) {
+            return "Employee with email " + dto.getEmail() + " already exists";
+        }
+        if (takenUserIds.contains(dto.getUserId())) {
+            return "User with id " + dto.getUserId() + " already has an employee";
+        }
+        if (dto.getEmail() != null) {
+            takenEmails.add(dto.getEmail());
+        }
+        takenUserIds.add(dto.getUserId());
+        return null;
+    }
+
+    private static void validateBulkIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidationException("Employee IDs cannot be null or empty");
+        }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new ValidationException("Bulk changes are limited to " + MAX_BULK_IDS
+                + " employee IDs");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new ValidationException("Employee IDs cannot contain null");
+        }
+    }
+
+    // Both orders end with the primary key, so every position in them is unique and a page can
+    // be continued with a seek on the last row instead of an offset.
+    private CursorPageDto<EmployeeDto> getEmployeePage(EmployeeFilter filter, String cursor,
+                                                       Integer size) {
+        boolean bySalary = filter.isOrderedBySalary();
+        ScrollPosition position = bySalary ? salaryPosition(cursor) : idPosition(cursor);
+        Window<EmployeeRow> rows = employeeDao.findRows(filter, position, limit(size));
+        List<EmployeeDto> items = toDtos(rows.getContent());
+        if (!rows.hasNext() || rows.isEmpty()) {
+            return new CursorPageDto<>(items, null);
+        }
+
+        EmployeeRow last = rows.getContent().get(rows.size() - 1);
+        String next = bySalary
+            ? encodeCursor(last.salary().toPlainString() + ',' + last.id())
+            : encodeCursor(last.id().toString());
+        return new CursorPageDto<>(items, next);
+    }
+
+    private List<EmployeeDto> toDtos(List<EmployeeRow> rows) {
+        Set<Long> userIds = rows.stream()
+            .map(EmployeeRow::userId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        List<UserRoleRow> userRoles = userIds.isEmpty()
+            ? List.of() : userDao.findRolesByUserIds(userIds);
+        return employeeMapper.toDtos(rows, userRoles);
+    }
+
+    private static Limit limit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_PAGE_SIZE);
+        }
+        if (size < 1) {
+            throw new ValidationException("Page size must be positive");
+        }
+        return Limit.of(Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static ScrollPosition idPosition(String cursor) {
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+        String[] keys = decodeCursor(cursor, 1);
+        try {
+            return ScrollPosition.forward(Map.of("id", Long.valueOf(keys[0])));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    private static ScrollPosition salaryPosition(String cursor) {
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+        String[] keys = decodeCursor(cursor, 2);
+        try {
+            return ScrollPosition.forward(
+                Map.of("salary", new BigDecimal(keys[0]), "id", Long.valueOf(keys[1])));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    private static String encodeCursor(String keys) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(keys.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor, int keyCount) {
+        String[] keys;
+        try {
+            keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(",", -1);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(INVALID_CURSOR_MESSAGE);
+        }
+        if (keys.length != keyCount) {
+            throw new ValidationException(INVALID_CURSOR_MESSAGE);
+        }
+        return keys;
+    }
+}
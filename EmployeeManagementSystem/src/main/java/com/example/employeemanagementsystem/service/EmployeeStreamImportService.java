@@ -0,0 +1,118 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.EmployeeImportResultDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.model.EmployeeImportTask;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports employees parsed incrementally from a request body. Only one chunk of
+ * {@link EmployeeService#BULK_CHUNK_SIZE} rows is held in memory; every full chunk goes through
+ * {@link EmployeeService#importChunk} and commits on its own.
+ */
+@Service
+public class EmployeeStreamImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStreamImportService.class);
+
+    private final EmployeeService employeeService;
+    private final Validator validator;
+
+    public enum Format {
+        CSV,
+        BINARY;
+
+        public static Format of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Unsupported import format: " + name);
+            }
+        }
+    }
+
+    @Autowired
+    public EmployeeStreamImportService(EmployeeService employeeService, Validator validator) {
+        this.employeeService = employeeService;
+        this.validator = validator;
+    }
+
+    public EmployeeImportResultDto importEmployees(Format format, InputStream in)
+        throws IOException {
+        long startedAt = System.nanoTime();
+        EmployeeRowReader reader = format == Format.CSV
+            ? new EmployeeCsvReader(in) : new EmployeeBinaryReader(in);
+        List<EmployeeCreateDto> chunk = new ArrayList<>(EmployeeService.BULK_CHUNK_SIZE);
+        List<Integer> chunkRows = new ArrayList<>(EmployeeService.BULK_CHUNK_SIZE);
+        List<FailedRow> failedRows = new ArrayList<>();
+        int row = 0;
+        long failed = 0;
+        long created = 0;
+        while (true) {
+            EmployeeCreateDto dto;
+            String problem;
+            try {
+                dto = reader.next();
+                if (dto == null) {
+                    break;
+                }
+                problem = EmployeeService.violationsOf(validator, dto);
+            } catch (IllegalArgumentException e) {
+                problem = e.getMessage();
+            } catch (ValidationException e) {
+                throw new ValidationException(e.getMessage() + " at row " + row + ", "
+                    + created + " employees were already imported");
+            }
+            if (problem != null) {
+                report(failedRows, new FailedRow(row++, problem));
+                failed++;
+                continue;
+            }
+            chunk.add(dto);
+            chunkRows.add(row++);
+            if (chunk.size() == EmployeeService.BULK_CHUNK_SIZE) {
+                int chunkFailures = importChunk(chunk, chunkRows, failedRows);
+                created += chunk.size() - chunkFailures;
+                failed += chunkFailures;
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int chunkFailures = importChunk(chunk, chunkRows, failedRows);
+            created += chunk.size() - chunkFailures;
+            failed += chunkFailures;
+        }
+
+        double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1e9;
+        logger.info("Imported {} of {} employees from {} in {} s.", created, row, format,
+            String.format("%.1f", seconds));
+        return new EmployeeImportResultDto(row, created, failed, failedRows, row / seconds);
+    }
+
+    private int importChunk(List<EmployeeCreateDto> chunk, List<Integer> chunkRows,
+                            List<FailedRow> failedRows) {
+        List<FailedRow> failures = employeeService.importChunk(chunk, 0);
+        for (FailedRow failure : failures) {
+            report(failedRows, new FailedRow(chunkRows.get(failure.row()), failure.message()));
+        }
+        return failures.size();
+    }
+
+    private static void report(List<FailedRow> failedRows, FailedRow failedRow) {
+        if (failedRows.size() < EmployeeImportTask.MAX_REPORTED_FAILURES) {
+            failedRows.add(failedRow);
+        }
+    }
+}
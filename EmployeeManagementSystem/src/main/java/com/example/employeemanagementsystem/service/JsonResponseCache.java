@@ -0,0 +1,149 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Caches serialized JSON responses of read-heavy endpoints together with a strong ETag, so a
+ * repeated request is answered from memory and a client holding the current ETag gets
+ * {@code 304 Not Modified} without touching the database or Jackson.
+ *
+ * <p>Responses are grouped by the data they are built from. Each group has a generation that is
+ * part of the cache key; {@link #invalidate(String)} bumps it, which makes every cached response
+ * of the group unreachable at once, and a response computed from data read before the bump is
+ * stored under the old generation where nobody will look it up. Invalidations are also
+ * published on the {@link CacheInvalidationBus}, so other nodes drop the group as well.
+ */
+@Service
+public class JsonResponseCache {
+
+    public static final String DEPARTMENTS = "departments";
+    public static final String POSITIONS = "positions";
+    public static final String ROLES = "roles";
+
+    static final String BUS_NAME = "jsonResponseCache";
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonResponseCache.class);
+
+    private final InMemoryCache<String, CachedJson> responseCache;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JsonResponseCache(InMemoryCache<String, CachedJson> responseCache,
+                             ObjectMapper objectMapper,
+                             CacheInvalidationBus invalidationBus) {
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(BUS_NAME, group -> {
+            if (group != null) {
+                generation(group).incrementAndGet();
+            } else {
+                generations.values().forEach(AtomicLong::incrementAndGet);
+            }
+        });
+    }
+
+    /**
+     * Returns the cached response for {@code key} within {@code group}, serializing the result
+     * of {@code body} on a miss, or a bodiless {@code 304} when the request already carries the
+     * current ETag.
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String group, String key,
+                                          Supplier<?> body) {
+        CachedJson json = get(group, key, body);
+        if (request.checkNotModified(json.getEtag())) {
+            logger.debug("Response {} of group {} not modified.", key, group);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(json.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(json.getEtag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json.getBody());
+    }
+
+    public CachedJson get(String group, String key, Supplier<?> body) {
+        String cacheKey = group + '#' + generation(group).get() + ':' + key;
+        return responseCache.get(cacheKey, ignored -> serialize(body.get()));
+    }
+
+    /**
+     * Drops every cached response of {@code group}. Inside a transaction the group is dropped
+     * again after commit, so a response rebuilt from not yet committed data does not survive.
+     */
+    public void invalidate(String group) {
+        generation(group).incrementAndGet();
+        invalidationBus.publish(BUS_NAME, group);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        generation(group).incrementAndGet();
+                    }
+                });
+        }
+        logger.debug("Cached responses of group {} invalidated.", group);
+    }
+
+    private AtomicLong generation(String group) {
+        return generations.computeIfAbsent(group, ignored -> new AtomicLong());
+    }
+
+    private CachedJson serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            return new CachedJson(bytes, etag(bytes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cached response", e);
+        }
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static final class CachedJson {
+
+        private final byte[] body;
+        private final String etag;
+
+        CachedJson(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employeemanagementsystem.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process bus: invalidations are delivered synchronously to the peers created with
+ * {@link #connectPeer()}. A single instance has no peers, which makes it the bus of a node that
+ * runs alone; tests connect several instances to simulate a cluster.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "loopback",
+    matchIfMissing = true)
+public class LoopbackInvalidationBus implements CacheInvalidationBus {
+
+    private final List<LoopbackInvalidationBus> peers;
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    public LoopbackInvalidationBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private LoopbackInvalidationBus(List<LoopbackInvalidationBus> peers) {
+        this.peers = peers;
+        peers.add(this);
+    }
+
+    public LoopbackInvalidationBus connectPeer() {
+        return new LoopbackInvalidationBus(peers);
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        for (LoopbackInvalidationBus peer : peers) {
+            if (peer != this) {
+                peer.deliver(cacheName, key);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    private void deliver(String cacheName, String key) {
+        handlers.getOrDefault(cacheName, List.of()).forEach(handler -> handler.accept(key));
+    }
+}
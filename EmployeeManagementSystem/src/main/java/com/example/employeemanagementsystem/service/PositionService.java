@@ -6,6 +6,7 @@ import com.example.employeemanagementsystem.dto.get.PositionDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.mapper.PositionMapper;
 import com.example.employeemanagementsystem.model.Position;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,18 +20,27 @@ public class PositionService {
 
     private final PositionDao positionDao;
     private final PositionMapper positionMapper;
+    private final InMemoryCache<Long, PositionDto> positionCache;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
-    public PositionService(PositionDao positionDao, PositionMapper positionMapper) {
+    public PositionService(PositionDao positionDao, PositionMapper positionMapper,
+                           InMemoryCache<Long, PositionDto> positionCache,
+                           JsonResponseCache jsonResponseCache) {
         this.positionDao = positionDao;
         this.positionMapper = positionMapper;
+        this.positionCache = positionCache;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @Transactional(readOnly = true)
     public PositionDto getPositionById(Long id) {
-        return positionDao.findById(id)
-            .map(positionMapper::toDto)
-            .orElseThrow(() -> new ResourceNotFoundException(POSITION_NOT_FOUND_MESSAGE + id));
+        PositionDto positionDto = positionCache.get(id,
+            key -> positionDao.findById(key).map(positionMapper::toDto).orElse(null));
+        if (positionDto == null) {
+            throw new ResourceNotFoundException(POSITION_NOT_FOUND_MESSAGE + id);
+        }
+        return positionDto;
     }
 
     @Transactional(readOnly = true)
@@ -44,7 +54,10 @@ public class PositionService {
     public PositionDto createPosition(PositionCreateDto positionCreateDto) {
         Position position = positionMapper.toEntity(positionCreateDto);
         Position savedPosition = positionDao.save(position);
-        return positionMapper.toDto(savedPosition);
+        PositionDto savedPositionDto = positionMapper.toDto(savedPosition);
+        TransactionalCaches.putAfterCommit(positionCache, savedPosition.getId(), savedPositionDto);
+        jsonResponseCache.invalidate(JsonResponseCache.POSITIONS);
+        return savedPositionDto;
     }
 
     @Transactional
@@ -53,7 +66,10 @@ public class PositionService {
             .orElseThrow(() -> new ResourceNotFoundException(POSITION_NOT_FOUND_MESSAGE + id));
         positionMapper.updatePositionFromDto(positionCreateDto, position);
         Position updatedPosition = positionDao.save(position);
-        return positionMapper.toDto(updatedPosition);
+        PositionDto updatedPositionDto = positionMapper.toDto(updatedPosition);
+        TransactionalCaches.evict(positionCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.POSITIONS);
+        return updatedPositionDto;
     }
 
     @Transactional
@@ -61,6 +77,8 @@ public class PositionService {
         if (!positionDao.existsById(id)) {
             throw new ResourceNotFoundException(POSITION_NOT_FOUND_MESSAGE + id);
         }
+        TransactionalCaches.evict(positionCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.POSITIONS);
         positionDao.deleteById(id);
     }
 }
\ No newline at end of file
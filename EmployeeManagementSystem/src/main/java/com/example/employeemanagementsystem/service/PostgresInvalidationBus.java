@@ -0,0 +1,158 @@
+package com.example.employeemanagementsystem.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bus on top of PostgreSQL {@code LISTEN/NOTIFY}. Notifications are sent through the
+ * transactional connection, so PostgreSQL delivers them only when the transaction commits and
+ * drops them on rollback; every node listens on a dedicated connection and skips the
+ * notifications it sent itself. The listening connection is opened outside the pool, so it does
+ * not hold one of the pooled connections for the life of the process.
+ *
+ * <p>A listener that lost its connection cannot know what it missed, so after reconnecting it
+ * drops every subscribed cache.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres")
+public class PostgresInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+    private static final char SEPARATOR = '|';
+    private static final char SINGLE_KEY = 'k';
+    private static final char ALL_KEYS = '*';
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration pollTimeout;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @Autowired
+    public PostgresInvalidationBus(
+        DataSourceProperties dataSourceProperties,
+        JdbcTemplate jdbcTemplate,
+        @Value("${cache.invalidation.poll-timeout:500ms}") Duration pollTimeout) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollTimeout = pollTimeout;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        String payload = nodeId + SEPARATOR + cacheName + SEPARATOR
+            + (key == null ? String.valueOf(ALL_KEYS) : SINGLE_KEY + key);
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, CHANNEL, payload);
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(pollTimeout.multipliedBy(2).toMillis());
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    logger.info("Listening for cache invalidations again, dropping all caches.");
+                    handlers.values().forEach(list -> list.forEach(h -> h.accept(null)));
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications =
+                        pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Cache invalidation listener lost its connection.", e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        int nodeEnd = payload.indexOf(SEPARATOR);
+        int cacheEnd = payload.indexOf(SEPARATOR, nodeEnd + 1);
+        if (nodeEnd < 0 || cacheEnd < 0 || cacheEnd + 1 >= payload.length()) {
+            logger.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (payload.substring(0, nodeEnd).equals(nodeId)) {
+            return;
+        }
+        String cacheName = payload.substring(nodeEnd + 1, cacheEnd);
+        String key = payload.charAt(cacheEnd + 1) == ALL_KEYS
+            ? null : payload.substring(cacheEnd + 2);
+        for (Consumer<String> handler : handlers.getOrDefault(cacheName, List.of())) {
+            try {
+                handler.accept(key);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to apply invalidation of {} in cache {}.", key, cacheName, e);
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -6,7 +6,9 @@ import com.example.employeemanagementsystem.dto.get.RoleDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.mapper.RoleMapper;
 import com.example.employeemanagementsystem.model.Role;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,18 +22,33 @@ public class RoleService {
 
     private final RoleDao roleDao;
     private final RoleMapper roleMapper;
+    private final InMemoryCache<Long, RoleDto> roleCache;
+    private final JsonResponseCache jsonResponseCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Autowired
-    public RoleService(RoleDao roleDao, RoleMapper roleMapper) {
+    public RoleService(RoleDao roleDao, RoleMapper roleMapper,
+                       InMemoryCache<Long, RoleDto> roleCache,
+                       JsonResponseCache jsonResponseCache,
+                       TokenRevocationService tokenRevocationService,
+                       UserDetailsServiceImpl userDetailsService) {
         this.roleDao = roleDao;
         this.roleMapper = roleMapper;
+        this.roleCache = roleCache;
+        this.jsonResponseCache = jsonResponseCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userDetailsService = userDetailsService;
     }
 
     @Transactional(readOnly = true)
     public RoleDto getRoleById(Long id) {
-        return roleDao.findById(id)
-            .map(roleMapper::toDto)
-            .orElseThrow(() -> new ResourceNotFoundException(ROLE_NOT_FOUND_WITH_ID_MESSAGE + id));
+        RoleDto roleDto = roleCache.get(id,
+            key -> roleDao.findById(key).map(roleMapper::toDto).orElse(null));
+        if (roleDto == null) {
+            throw new ResourceNotFoundException(ROLE_NOT_FOUND_WITH_ID_MESSAGE + id);
+        }
+        return roleDto;
     }
 
     @Transactional(readOnly = true)
@@ -45,22 +62,38 @@ public class RoleService {
     public RoleDto createRole(RoleCreateDto roleCreateDto) {
         Role role = roleMapper.toEntity(roleCreateDto);
         Role savedRole = roleDao.save(role);
-        return roleMapper.toDto(savedRole);
+        RoleDto savedRoleDto = roleMapper.toDto(savedRole);
+        TransactionalCaches.putAfterCommit(roleCache, savedRole.getId(), savedRoleDto);
+        jsonResponseCache.invalidate(JsonResponseCache.ROLES);
+        return savedRoleDto;
     }
 
     @Transactional
     public RoleDto updateRole(Long id, RoleCreateDto roleCreateDto) {
         Role role = roleDao.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(ROLE_NOT_FOUND_WITH_ID_MESSAGE + id));
+        String oldName = role.getName();
         roleMapper.updateRoleFromDto(roleCreateDto, role);
         Role updatedRole = roleDao.save(role);
-        return roleMapper.toDto(updatedRole);
+        RoleDto updatedRoleDto = roleMapper.toDto(updatedRole);
+        TransactionalCaches.evict(roleCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.ROLES);
+        // Tokens and cached logins carry role names, the ones with the old name are out of date.
+        if (!Objects.equals(oldName, updatedRole.getName())) {
+            tokenRevocationService.revokeRole(id);
+            userDetailsService.evictAll();
+        }
+        return updatedRoleDto;
     }
 
     @Transactional
     public void deleteRole(Long id) {
         roleDao.findById(id) 
             .orElseThrow(() -> new ResourceNotFoundException(ROLE_NOT_FOUND_WITH_ID_MESSAGE + id));
+        TransactionalCaches.evict(roleCache, id);
+        jsonResponseCache.invalidate(JsonResponseCache.ROLES);
+        tokenRevocationService.revokeRole(id);
+        userDetailsService.evictAll();
         roleDao.deleteById(id);
     }
 
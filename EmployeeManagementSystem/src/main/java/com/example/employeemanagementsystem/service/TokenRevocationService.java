@@ -0,0 +1,94 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.model.User;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decides whether a token is still valid by comparing its version with the token version of its
+ * user. Versions are read from the database once per user and node and then kept in memory;
+ * revocations raise the stored version, update the local copy once the transaction commits and
+ * make the other nodes reload theirs through the {@link CacheInvalidationBus}.
+ */
+@Service
+public class TokenRevocationService {
+
+    static final String CHANNEL = "token-versions";
+
+    // Version of deleted users, no token is ever that new.
+    static final int REVOKED = Integer.MAX_VALUE;
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final Map<Long, Integer> tokenVersions = new ConcurrentHashMap<>();
+    private final UserDao userDao;
+    private final CacheInvalidationBus bus;
+
+    @Autowired
+    public TokenRevocationService(UserDao userDao, CacheInvalidationBus bus) {
+        this.userDao = userDao;
+        this.bus = bus;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        bus.subscribe(CHANNEL, key -> {
+            if (key == null) {
+                tokenVersions.clear();
+            } else {
+                tokenVersions.remove(Long.valueOf(key));
+            }
+        });
+    }
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= tokenVersions.computeIfAbsent(userId,
+            id -> userDao.findTokenVersionById(id).orElse(REVOKED));
+    }
+
+    /** Revokes the tokens of {@code user}, the new version is saved with the entity. */
+    public void revoke(User user) {
+        Long userId = user.getId();
+        int tokenVersion = user.getTokenVersion() + 1;
+        user.setTokenVersion(tokenVersion);
+        afterCommit(() -> tokenVersions.put(userId, tokenVersion));
+        bus.publish(CHANNEL, String.valueOf(userId));
+        logger.info("Tokens of user {} revoked.", userId);
+    }
+
+    public void revokeDeleted(Long userId) {
+        afterCommit(() -> tokenVersions.put(userId, REVOKED));
+        bus.publish(CHANNEL, String.valueOf(userId));
+        logger.info("Tokens of deleted user {} revoked.", userId);
+    }
+
+    /** Revokes the tokens of every user with the role, their authorities are out of date. */
+    public void revokeRole(Long roleId) {
+        int revoked = userDao.incrementTokenVersionsByRoleId(roleId);
+        afterCommit(tokenVersions::clear);
+        bus.publish(CHANNEL, null);
+        logger.info("Tokens of {} users with role {} revoked.", revoked, roleId);
+    }
+
+    // A version read by a concurrent request before the commit would otherwise stay in memory.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
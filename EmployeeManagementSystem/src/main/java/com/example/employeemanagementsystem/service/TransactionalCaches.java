@@ -0,0 +1,41 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the DTO caches in step with the transaction that changes their entities. New entries
+ * are only added once the transaction commits, so a rollback leaves nothing behind; changed and
+ * deleted entries are evicted at once and again after commit, so a value reloaded by a
+ * concurrent read from the not yet committed state does not stay cached.
+ */
+final class TransactionalCaches {
+
+    private TransactionalCaches() {
+    }
+
+    static <K, V> void putAfterCommit(InMemoryCache<K, V> cache, K key, V value) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> cache.put(key, value));
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    static <K> void evict(InMemoryCache<K, ?> cache, K key) {
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> cache.evict(key));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,34 +1,108 @@
 package com.example.employeemanagementsystem.service;
 
 import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import com.example.employeemanagementsystem.model.Role;
+import com.example.employeemanagementsystem.model.User;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional; // Важный импорт
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.stream.Collectors;
+import java.util.List;
 
+/**
+ * Loads users for the login by username or employee email. Found users are cached by the name
+ * they were looked up with; {@link UserService}, {@link RoleService} and {@link EmployeeService}
+ * evict them when the username, password, email or roles change.
+ */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private final UserDao userDao;
+    private final InMemoryCache<String, CachedUser> userDetailsCache;
+
     @Autowired
-    private UserDao userDao;
+    public UserDetailsServiceImpl(UserDao userDao,
+                                  InMemoryCache<String, CachedUser> userDetailsCache) {
+        this.userDao = userDao;
+        this.userDetailsCache = userDetailsCache;
+    }
 
     @Override
-    @Transactional(readOnly = true) // Эта аннотация решает LazyInitializationException
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        com.example.employeemanagementsystem.model.User user = userDao.findByUsername(username)
-                .or(() -> userDao.findByEmployeeEmail(username))
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with: " + username));
+        CachedUser user = userDetailsCache.get(username, this::load);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with: " + username);
+        }
+        // A new principal every time, the authentication manager erases its password.
+        return user.toPrincipal();
+    }
+
+    /** Evicts the entries {@code user} can be found under, by username and employee email. */
+    public void evict(User user) {
+        evict(user.getUsername());
+        if (user.getEmployee() != null) {
+            evict(user.getEmployee().getEmail());
+        }
+    }
+
+    /**
+     * Evicts the entry of {@code login}. Inside a transaction it is evicted again after commit,
+     * so a login that reloaded the not yet committed row does not keep it cached.
+     */
+    public void evict(String login) {
+        if (login == null) {
+            return;
+        }
+        userDetailsCache.evict(login);
+        afterCommit(() -> userDetailsCache.evict(login));
+    }
+
+    public void evictAll() {
+        userDetailsCache.clear();
+        afterCommit(userDetailsCache::clear);
+    }
+
+    // Roles come with the user, so no transaction is needed; a username match wins over an email.
+    private CachedUser load(String login) {
+        List<User> users = userDao.findByUsernameOrEmployeeEmail(login);
+        return users.stream()
+                .filter(user -> login.equals(user.getUsername()))
+                .findFirst()
+                .or(() -> users.stream().findFirst())
+                .map(CachedUser::of)
+                .orElse(null);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+        }
+    }
+
+    public record CachedUser(Long userId, String username, String password, int tokenVersion,
+                             List<String> roles) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getPassword(),
+                    user.getTokenVersion(), user.getRoles().stream().map(Role::getName).toList());
+        }
 
-        // Доступ к user.getRoles() теперь происходит внутри активной транзакции
-        return new User(user.getUsername(), user.getPassword(),
-                user.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority(role.getName()))
-                        .collect(Collectors.toList()));
+        AuthenticatedUser toPrincipal() {
+            return new AuthenticatedUser(userId, username, password, tokenVersion,
+                    roles.stream().map(SimpleGrantedAuthority::new).toList());
+        }
     }
-}
\ No newline at end of file
+}
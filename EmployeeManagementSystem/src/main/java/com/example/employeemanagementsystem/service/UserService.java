@@ -11,6 +11,7 @@ import com.example.employeemanagementsystem.model.Role;
 import com.example.employeemanagementsystem.model.User;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,8 @@ public class UserService {
     private final RoleDao roleDao;
     private final PasswordEncoder passwordEncoder;
     private final RoleService roleService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Autowired
     public UserService(
@@ -34,12 +37,16 @@ public class UserService {
             UserMapper userMapper,
             RoleDao roleDao,
             PasswordEncoder passwordEncoder,
-            RoleService roleService) {
+            RoleService roleService,
+            TokenRevocationService tokenRevocationService,
+            UserDetailsServiceImpl userDetailsService) {
         this.userDao = userDao;
         this.userMapper = userMapper;
         this.roleDao = roleDao;
         this.passwordEncoder = passwordEncoder;
         this.roleService = roleService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userDetailsService = userDetailsService;
     }
 
     @Transactional(readOnly = true)
@@ -95,11 +102,14 @@ public class UserService {
                 userDao.findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(
                                 USER_NOT_FOUND_WITH_ID_MESSAGE + id));
+        String oldUsername = user.getUsername();
+        boolean revokeTokens = false;
 
         userMapper.updateUserFromDto(userCreateDto, user);
 
         if (userCreateDto.getPassword() != null && !userCreateDto.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(userCreateDto.getPassword()));
+            revokeTokens = true;
         }
 
         if (userCreateDto.getRoleIds() != null) {
@@ -111,17 +121,27 @@ public class UserService {
                                         "Role not found with id " + roleId));
                 newRoles.add(role);
             }
+            revokeTokens |= !newRoles.equals(user.getRoles());
             user.setRoles(newRoles);
         }
 
+        // Issued tokens carry the username and roles and must not outlive a password change;
+        // cached logins also hold the password and the token version.
+        if (revokeTokens || !Objects.equals(oldUsername, user.getUsername())) {
+            tokenRevocationService.revoke(user);
+            userDetailsService.evict(oldUsername);
+            userDetailsService.evict(user);
+        }
         User updatedUser = userDao.save(user);
         return userMapper.toDto(updatedUser);
     }
 
     @Transactional
     public void deleteUser(Long id) {
-        userDao.findById(id)
+        User user = userDao.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID_MESSAGE + id));
+        tokenRevocationService.revokeDeleted(id);
+        userDetailsService.evict(user);
         userDao.deleteById(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.employeemanagementsystem.utils;
+
+/**
+ * Intrusive doubly-linked list of cache entries. Every operation is O(1) because the links
+ * live in the entries themselves. Not thread-safe: callers hold the cache eviction lock.
+ */
+final class AccessOrderDeque<K, V> {
+
+    private CacheEntry<K, V> first;
+    private CacheEntry<K, V> last;
+
+    CacheEntry<K, V> peekFirst() {
+        return first;
+    }
+
+    boolean contains(CacheEntry<K, V> entry) {
+        return entry.getPrevious() != null || entry.getNext() != null || first == entry;
+    }
+
+    void addLast(CacheEntry<K, V> entry) {
+        entry.setPrevious(last);
+        entry.setNext(null);
+        if (last == null) {
+            first = entry;
+        } else {
+            last.setNext(entry);
+        }
+        last = entry;
+    }
+
+    void moveToBack(CacheEntry<K, V> entry) {
+        if (entry == last || !contains(entry)) {
+            return;
+        }
+        remove(entry);
+        addLast(entry);
+    }
+
+    void remove(CacheEntry<K, V> entry) {
+        if (!contains(entry)) {
+            return;
+        }
+        CacheEntry<K, V> previous = entry.getPrevious();
+        CacheEntry<K, V> next = entry.getNext();
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        entry.setPrevious(null);
+        entry.setNext(null);
+    }
+
+    CacheEntry<K, V> pollFirst() {
+        CacheEntry<K, V> entry = first;
+        if (entry != null) {
+            remove(entry);
+        }
+        return entry;
+    }
+
+    void clear() {
+        CacheEntry<K, V> entry = first;
+        while (entry != null) {
+            CacheEntry<K, V> next = entry.getNext();
+            entry.setPrevious(null);
+            entry.setNext(null);
+            entry = next;
+        }
+        first = null;
+        last = null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.employeemanagementsystem.utils;
+
+final class CacheEntry<K, V> {
+
+    private final K key;
+    private volatile V value;
+    private volatile long writeTime;
+    private volatile long accessTime;
+    private volatile long variableExpirationTime;
+
+    // Guarded by the cache eviction lock.
+    private boolean alive = true;
+    private int weight = 1;
+    private int frequency;
+    private int region;
+    private long expirationTime;
+    private CacheEntry<K, V> previous;
+    private CacheEntry<K, V> next;
+    private CacheEntry<K, V> previousInTimer;
+    private CacheEntry<K, V> nextInTimer;
+
+    CacheEntry(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    K getKey() {
+        return key;
+    }
+
+    V getValue() {
+        return value;
+    }
+
+    void setValue(V value) {
+        this.value = value;
+    }
+
+    long getWriteTime() {
+        return writeTime;
+    }
+
+    void setWriteTime(long writeTime) {
+        this.writeTime = writeTime;
+    }
+
+    long getAccessTime() {
+        return accessTime;
+    }
+
+    void setAccessTime(long accessTime) {
+        this.accessTime = accessTime;
+    }
+
+    long getVariableExpirationTime() {
+        return variableExpirationTime;
+    }
+
+    void setVariableExpirationTime(long variableExpirationTime) {
+        this.variableExpirationTime = variableExpirationTime;
+    }
+
+    long getExpirationTime() {
+        return expirationTime;
+    }
+
+    void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    boolean isAlive() {
+        return alive;
+    }
+
+    void retire() {
+        this.alive = false;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    int getFrequency() {
+        return frequency;
+    }
+
+    void setFrequency(int frequency) {
+        this.frequency = frequency;
+    }
+
+    int getRegion() {
+        return region;
+    }
+
+    void setRegion(int region) {
+        this.region = region;
+    }
+
+    CacheEntry<K, V> getPrevious() {
+        return previous;
+    }
+
+    void setPrevious(CacheEntry<K, V> previous) {
+        this.previous = previous;
+    }
+
+    CacheEntry<K, V> getNext() {
+        return next;
+    }
+
+    void setNext(CacheEntry<K, V> next) {
+        this.next = next;
+    }
+
+    CacheEntry<K, V> getPreviousInTimer() {
+        return previousInTimer;
+    }
+
+    void setPreviousInTimer(CacheEntry<K, V> previousInTimer) {
+        this.previousInTimer = previousInTimer;
+    }
+
+    CacheEntry<K, V> getNextInTimer() {
+        return nextInTimer;
+    }
+
+    void setNextInTimer(CacheEntry<K, V> nextInTimer) {
+        this.nextInTimer = nextInTimer;
+    }
+}
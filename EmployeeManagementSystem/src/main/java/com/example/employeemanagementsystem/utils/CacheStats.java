@@ -0,0 +1,99 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.Map;
+
+/**
+ * Point-in-time view of the counters of an {@link InMemoryCache}. The load latency histogram
+ * maps an upper bound ("5ms", ..., "+Inf") to the number of loads that finished within it but
+ * above the previous bound.
+ */
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTimeNanos;
+    private final Map<String, Long> loadLatencyHistogram;
+    private final Map<RemovalCause, Long> evictionCounts;
+    private final long size;
+    private final long weightedSize;
+
+    CacheStats(long hitCount,
+               long missCount,
+               long loadSuccessCount,
+               long loadFailureCount,
+               long totalLoadTimeNanos,
+               Map<String, Long> loadLatencyHistogram,
+               Map<RemovalCause, Long> evictionCounts,
+               long size,
+               long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.loadLatencyHistogram = loadLatencyHistogram;
+        this.evictionCounts = evictionCounts;
+        this.size = size;
+        this.weightedSize = weightedSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    public Map<String, Long> getLoadLatencyHistogram() {
+        return loadLatencyHistogram;
+    }
+
+    public Map<RemovalCause, Long> getEvictionCounts() {
+        return evictionCounts;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getLoadCount() {
+        return loadSuccessCount + loadFailureCount;
+    }
+
+    public double getAverageLoadPenaltyNanos() {
+        long loadCount = getLoadCount();
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employeemanagementsystem.utils;
+
+public enum EvictionPolicy {
+    LRU,
+    LFU,
+    FIFO,
+    TINY_LFU;
+
+    <K, V> Policy<K, V> create(long maximumWeight, int expectedEntries) {
+        return switch (this) {
+            case LRU -> new LruPolicy<>();
+            case LFU -> new LfuPolicy<>();
+            case FIFO -> new FifoPolicy<>();
+            case TINY_LFU -> new TinyLfuPolicy<>(maximumWeight, expectedEntries);
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.time.Duration;
+
+/**
+ * Computes how long an entry may stay in the cache after it is written, for values that carry
+ * their own lifetime. Called on every write of the entry, including refreshes.
+ */
+@FunctionalInterface
+public interface Expiry<K, V> {
+
+    /** The lifetime of the entry; zero or negative means it is expired as soon as written. */
+    Duration expireAfterWrite(K key, V value);
+}
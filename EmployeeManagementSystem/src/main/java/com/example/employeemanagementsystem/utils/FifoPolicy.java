@@ -0,0 +1,36 @@
+package com.example.employeemanagementsystem.utils;
+
+final class FifoPolicy<K, V> implements Policy<K, V> {
+
+    private final AccessOrderDeque<K, V> insertionOrder = new AccessOrderDeque<>();
+
+    @Override
+    public void onInsert(CacheEntry<K, V> entry) {
+        insertionOrder.addLast(entry);
+    }
+
+    @Override
+    public void onAccess(CacheEntry<K, V> entry) {
+        // Reads do not change the insertion order.
+    }
+
+    @Override
+    public void onUpdate(CacheEntry<K, V> entry, int previousWeight) {
+        // Replacing a value keeps the original insertion position.
+    }
+
+    @Override
+    public void onRemove(CacheEntry<K, V> entry) {
+        insertionOrder.remove(entry);
+    }
+
+    @Override
+    public CacheEntry<K, V> selectVictim() {
+        return insertionOrder.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        insertionOrder.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch with 4-bit counters used by {@link TinyLfuPolicy} to estimate how often a key
+ * has been seen recently. Counters are halved once the number of increments reaches ten times the
+ * cache capacity, so old popularity fades out. Not thread-safe.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int size = Integer.highestOneBit(Math.max(8, Math.min(capacity, 1 << 24)) - 1) << 1;
+        table = new long[size];
+        tableMask = size - 1;
+        sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            int offset = counterOffset(hash, depth);
+            long counter = (table[indexOf(hash, depth)] >>> offset) & MAX_COUNT;
+            frequency = Math.min(frequency, (int) counter);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            int index = indexOf(hash, depth);
+            int offset = counterOffset(hash, depth);
+            long mask = (long) MAX_COUNT << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        Arrays.fill(table, 0L);
+        additions = 0;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += value >>> 32;
+        return (int) value & tableMask;
+    }
+
+    private static int counterOffset(int hash, int depth) {
+        return ((hash >>> (depth << 3)) & 0xF) << 2;
+    }
+
+    private static int spread(int hash) {
+        int value = hash * 0x45d9f3b;
+        return value ^ (value >>> 16);
+    }
+}
@@ -1,116 +1,788 @@
 package com.example.employeemanagementsystem.utils;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
-import lombok.Getter;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
-@SuppressWarnings("squid:S6829")
-@Component
+/**
+ * Bounded cache with constant-time reads and writes, a pluggable {@link EvictionPolicy} and
+ * optional time-based expiry. The bound is either a number of entries or, when a
+ * {@link Weigher} is configured, a total weight such as an approximate heap budget in bytes.
+ *
+ * <p>Lookups go straight to a {@link ConcurrentHashMap} and only record the access in a striped
+ * {@link ReadBuffer}; the accesses are replayed into the policy in batches by whichever thread
+ * holds the eviction lock. Writes take that lock, so insertion and eviction are atomic with
+ * respect to the cache size. Entries expire after fixed times since their write or last access,
+ * or after a lifetime of their own computed by an {@link Expiry}. Expiring entries are tracked
+ * in a {@link TimerWheel} that is advanced during maintenance, and {@link #cleanUp()} can be
+ * called periodically so that idle caches release expired entries too.
+ *
+ * <p>{@link #get(Object, Function)} and {@link #getAll(Collection, Function)} load missing values
+ * themselves. Concurrent misses for the same key share a single in-flight load, and a load that
+ * races with a write or removal of its key hands its result to the waiting callers but does not
+ * cache it, so a stale value cannot overwrite a newer one.
+ *
+ * <p>Writes and removals made through {@link #put}, {@link #remove} and {@link #clear} are
+ * reported to the registered {@link InvalidationListener}s so they can be forwarded to other
+ * nodes; invalidations received from them are applied with {@link #invalidateLocally(String)},
+ * which does not notify the listeners again.
+ *
+ * <p>Hits, misses, loads and evictions are counted in striped counters so that recording them
+ * does not add contention to reads; {@link #stats()} returns a snapshot.
+ */
 public class InMemoryCache<K, V> {
 
     private static final Logger logger = LoggerFactory.getLogger(InMemoryCache.class);
+    private static final Duration MAX_LIFETIME = Duration.ofDays(100 * 365);
 
-    private static class CacheEntry<V> {
-        @Getter
-        private final V value;
-
-        public CacheEntry(V value) {
-            this.value = value;
-        }
-    }
-
-    private final Map<K, CacheEntry<V>> cache = new ConcurrentHashMap<>();
-    private final LinkedBlockingDeque<K> queue = new LinkedBlockingDeque<>();
+    private final Map<K, CacheEntry<K, V>> cache = new ConcurrentHashMap<>();
+    private final ReadBuffer<CacheEntry<K, V>> readBuffer = new ReadBuffer<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final List<InvalidationListener<? super K>> invalidationListeners =
+        new CopyOnWriteArrayList<>();
+    private final StatsCounter stats = new StatsCounter();
+    private final Policy<K, V> policy;
+    private final EvictionPolicy evictionPolicy;
     private final int capacity;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final Expiry<? super K, ? super V> expiry;
+    private final long refreshAfterWriteNanos;
+    private final Function<? super K, ? extends V> refreshLoader;
+    private final Executor executor;
+    private final Function<String, ? extends K> keyParser;
+    private final LongSupplier ticker;
+    private final TimerWheel<K, V> timerWheel;
+    private long weightedSize;
 
     public InMemoryCache() {
         this(128);
     }
 
     public InMemoryCache(int capacity) {
-        if (capacity <= 0) {
+        this(capacity, EvictionPolicy.LRU);
+    }
+
+    public InMemoryCache(int capacity, EvictionPolicy evictionPolicy) {
+        this(new Builder<K, V>().capacity(capacity).evictionPolicy(evictionPolicy));
+    }
+
+    private InMemoryCache(Builder<K, V> builder) {
+        if (builder.capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be positive");
         }
-        this.capacity = capacity;
+        if (builder.evictionPolicy == null) {
+            throw new IllegalArgumentException("Eviction policy must not be null");
+        }
+        this.capacity = builder.capacity;
+        this.weigher = builder.weigher;
+        this.maximumWeight = weigher == null ? capacity : builder.maximumWeight;
+        this.evictionPolicy = builder.evictionPolicy;
+        this.policy = evictionPolicy.create(maximumWeight, capacity);
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.expiry = builder.expiry;
+        this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+        this.refreshLoader = builder.refreshLoader;
+        this.executor = builder.executor;
+        this.keyParser = builder.keyParser;
+        this.ticker = builder.ticker;
+        this.timerWheel = expires() ? new TimerWheel<>(ticker.getAsLong()) : null;
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
     }
 
     public V get(K key) {
-        CacheEntry<V> entry = cache.get(key);
+        CacheEntry<K, V> entry = cache.get(key);
         if (entry == null) {
+            stats.recordMiss();
             return null;
         }
-        boolean removed = queue.remove(key);
-        if (!removed) {
-            logger.warn("Key {} not found in queue during get operation.", key);
+        long now = 0L;
+        if (expires() || refreshes()) {
+            now = ticker.getAsLong();
+            if (hasExpired(entry, now)) {
+                stats.recordMiss();
+                tryMaintenance();
+                return null;
+            }
+            if (expireAfterAccessNanos > 0L) {
+                entry.setAccessTime(now);
+            }
         }
-        boolean offered = queue.offer(key);
-        if (!offered) {
-            logger.error("Failed to offer key {} to the queue during get operation.", key);
+        stats.recordHit();
+        if (readBuffer.offer(entry)) {
+            tryMaintenance();
+        }
+        if (refreshes() && now - entry.getWriteTime() >= refreshAfterWriteNanos) {
+            refreshAsync(entry);
         }
-
         return entry.getValue();
     }
 
+    /**
+     * Returns the cached value, or computes it with {@code loader} and caches it. Callers that
+     * miss on the same key while a load is in flight wait for that load instead of starting their
+     * own. A {@code null} result is returned but not cached; an exception thrown by the loader is
+     * rethrown to every waiting caller. The loader must not access this cache.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        try {
+            value = getQuietly(key);
+            if (value == null) {
+                value = load(key, loader);
+                if (value != null) {
+                    putLoaded(key, value, future);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the cached values for {@code keys}, loading all the missing ones with a single call
+     * to {@code bulkLoader}. Keys already being loaded by another caller are waited for rather
+     * than loaded again. Keys that the loader does not return are absent from the result, which
+     * keeps the iteration order of {@code keys}.
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys,
+                            Function<? super Set<K>, ? extends Map<? extends K, ? extends V>>
+                                bulkLoader) {
+        Map<K, V> found = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> waiting = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> claimed = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (found.containsKey(key) || waiting.containsKey(key) || claimed.containsKey(key)) {
+                continue;
+            }
+            V value = get(key);
+            if (value != null) {
+                found.put(key, value);
+                continue;
+            }
+            CompletableFuture<V> future = new CompletableFuture<>();
+            CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+            if (inFlight != null) {
+                waiting.put(key, inFlight);
+            } else {
+                claimed.put(key, future);
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            loadAll(claimed, bulkLoader, found);
+        }
+        waiting.forEach((key, future) -> {
+            V value = join(future);
+            if (value != null) {
+                found.put(key, value);
+            }
+        });
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = found.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     public void put(K key, V value) {
-        CacheEntry<V> entry = new CacheEntry<>(value);
+        evictionLock.lock();
+        try {
+            loading.remove(key);
+            putLocked(key, value);
+        } finally {
+            evictionLock.unlock();
+        }
+        invalidationListeners.forEach(listener -> listener.onInvalidate(key));
+    }
+
+    public void evict(K key) {
+        remove(key);
+    }
+
+    public V remove(K key) {
+        V value = removeLocally(key);
+        invalidationListeners.forEach(listener -> listener.onInvalidate(key));
+        return value;
+    }
+
+    public void clear() {
+        clearLocally();
+        invalidationListeners.forEach(InvalidationListener::onInvalidateAll);
+    }
+
+    /**
+     * Removes the entry whose key serializes to {@code serializedKey} without notifying the
+     * invalidation listeners. Meant for invalidations that arrive from other nodes.
+     */
+    public void invalidateLocally(String serializedKey) {
+        if (keyParser == null) {
+            throw new IllegalStateException("Cache has no key parser for remote invalidations");
+        }
+        removeLocally(keyParser.apply(serializedKey));
+    }
+
+    public void invalidateAllLocally() {
+        clearLocally();
+    }
+
+    public void addInvalidationListener(InvalidationListener<? super K> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /**
+     * Whether invalidations of this cache should be shared with other nodes, which requires a
+     * key parser to turn the received keys back into cache keys.
+     */
+    public boolean isDistributed() {
+        return keyParser != null;
+    }
+
+    /**
+     * Replays pending reads and removes expired entries. Reads and writes do this as a side
+     * effect; a periodic call makes sure an idle cache still lets go of expired values.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance(ticker.getAsLong());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public CacheStats stats() {
+        return stats.snapshot(cache.size(), getWeightedSize());
+    }
 
-        if (cache.containsKey(key)) {
+    private V removeLocally(K key) {
+        evictionLock.lock();
+        try {
+            loading.remove(key);
+            CacheEntry<K, V> entry = cache.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            unlink(entry, RemovalCause.EXPLICIT);
+            return hasExpired(entry, ticker.getAsLong()) ? null : entry.getValue();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
 
-            cache.put(key, entry);
-            boolean removed = queue.remove(key);
-            if (!removed) {
-                logger.warn("Key {} not found in queue during put operation "
-                    + "when key already exists.", key);
+    private void clearLocally() {
+        evictionLock.lock();
+        try {
+            readBuffer.drainTo(entry -> { });
+            loading.clear();
+            cache.values().forEach(entry -> {
+                entry.retire();
+                stats.recordEviction(RemovalCause.EXPLICIT);
+            });
+            cache.clear();
+            policy.clear();
+            if (timerWheel != null) {
+                timerWheel.clear();
             }
-            boolean offered = queue.offer(key);
-            if (!offered) {
-                logger.error("Failed to offer key {} to the "
-                    + "queue during put operation when key already exists.", key);
+            weightedSize = 0L;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void putLocked(K key, V value) {
+        long now = ticker.getAsLong();
+        maintenance(now);
+        int weight = weigh(key, value);
+        CacheEntry<K, V> existing = cache.get(key);
+        if (weight > maximumWeight) {
+            logger.debug("Value for key {} weighs {} which exceeds the cache maximum {}; "
+                + "not caching it.", key, weight, maximumWeight);
+            if (existing != null) {
+                cache.remove(key, existing);
+                unlink(existing, RemovalCause.SIZE);
             }
             return;
         }
+        if (existing != null) {
+            update(existing, value, weight, now);
+            evictOverflow();
+            return;
+        }
 
-        if (cache.size() >= capacity) {
+        CacheEntry<K, V> entry = new CacheEntry<>(key, value);
+        entry.setWeight(weight);
+        recordWrite(entry, now);
+        cache.put(key, entry);
+        policy.onInsert(entry);
+        weightedSize += weight;
+        evictOverflow();
+    }
 
-            K lruKey = queue.poll();
-            if (lruKey != null) {
-                cache.remove(lruKey);
+    private V getQuietly(K key) {
+        CacheEntry<K, V> entry = cache.get(key);
+        if (entry == null || (expires() && hasExpired(entry, ticker.getAsLong()))) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        long start = ticker.getAsLong();
+        try {
+            V value = loader.apply(key);
+            stats.recordLoadSuccess(ticker.getAsLong() - start);
+            return value;
+        } catch (RuntimeException | Error e) {
+            stats.recordLoadFailure(ticker.getAsLong() - start);
+            throw e;
+        }
+    }
+
+    private void loadAll(Map<K, CompletableFuture<V>> claimed,
+                         Function<? super Set<K>, ? extends Map<? extends K, ? extends V>>
+                             bulkLoader,
+                         Map<K, V> found) {
+        try {
+            Set<K> keysToLoad = new LinkedHashSet<>();
+            for (Map.Entry<K, CompletableFuture<V>> claim : claimed.entrySet()) {
+                V value = getQuietly(claim.getKey());
+                if (value == null) {
+                    keysToLoad.add(claim.getKey());
+                } else {
+                    found.put(claim.getKey(), value);
+                    claim.getValue().complete(value);
+                }
             }
+            Map<? extends K, ? extends V> loaded = Collections.emptyMap();
+            if (!keysToLoad.isEmpty()) {
+                long start = ticker.getAsLong();
+                try {
+                    loaded = bulkLoader.apply(Collections.unmodifiableSet(keysToLoad));
+                    stats.recordLoadSuccess(ticker.getAsLong() - start);
+                } catch (RuntimeException | Error e) {
+                    stats.recordLoadFailure(ticker.getAsLong() - start);
+                    throw e;
+                }
+            }
+            for (K key : keysToLoad) {
+                V value = loaded == null ? null : loaded.get(key);
+                CompletableFuture<V> future = claimed.get(key);
+                if (value != null) {
+                    putLoaded(key, value, future);
+                    found.put(key, value);
+                }
+                future.complete(value);
+            }
+        } catch (RuntimeException | Error e) {
+            claimed.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            claimed.forEach(loading::remove);
         }
+    }
 
-        cache.put(key, entry);
-        boolean offered = queue.offer(key);
-        if (!offered) {
-            logger.error("Failed to offer key {} to the queue during put operation.", key);
+    private void putLoaded(K key, V value, CompletableFuture<V> future) {
+        evictionLock.lock();
+        try {
+            if (loading.get(key) == future) {
+                putLocked(key, value);
+            }
+        } finally {
+            evictionLock.unlock();
         }
     }
 
-    public void evict(K key) {
-        cache.remove(key);
-        boolean removed = queue.remove(key);
-        if (!removed) {
-            logger.warn("Key {} not found in queue during evict operation.", key);
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
-    public V remove(K key) {
-        CacheEntry<V> entry = cache.remove(key);
-        if (entry != null) {
-            boolean removed = queue.remove(key);
-            if (!removed) {
-                logger.warn("Key {} not found in queue during remove operation.", key);
+    private boolean expires() {
+        return expireAfterWriteNanos > 0L || expireAfterAccessNanos > 0L || expiry != null;
+    }
+
+    private boolean refreshes() {
+        return refreshAfterWriteNanos > 0L;
+    }
+
+    private boolean hasExpired(CacheEntry<K, V> entry, long now) {
+        return (expireAfterWriteNanos > 0L
+                && now - entry.getWriteTime() >= expireAfterWriteNanos)
+            || (expireAfterAccessNanos > 0L
+                && now - entry.getAccessTime() >= expireAfterAccessNanos)
+            || (expiry != null && now - entry.getVariableExpirationTime() >= 0L);
+    }
+
+    private int weigh(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weigher returned a negative weight for key " + key);
+        }
+        return weight;
+    }
+
+    private void update(CacheEntry<K, V> entry, V value, int weight, long now) {
+        int previousWeight = entry.getWeight();
+        entry.setValue(value);
+        entry.setWeight(weight);
+        weightedSize += weight - previousWeight;
+        recordWrite(entry, now);
+        policy.onUpdate(entry, previousWeight);
+    }
+
+    private void recordWrite(CacheEntry<K, V> entry, long now) {
+        entry.setWriteTime(now);
+        entry.setAccessTime(now);
+        if (expiry != null) {
+            Duration lifetime = expiry.expireAfterWrite(entry.getKey(), entry.getValue());
+            entry.setVariableExpirationTime(now + lifetimeNanos(lifetime));
+        }
+        schedule(entry);
+    }
+
+    // Capped so that deadlines compared by subtraction cannot overflow.
+    private static long lifetimeNanos(Duration lifetime) {
+        if (lifetime.isNegative()) {
+            return 0L;
+        }
+        if (lifetime.compareTo(MAX_LIFETIME) > 0) {
+            return MAX_LIFETIME.toNanos();
+        }
+        return lifetime.toNanos();
+    }
+
+    private void schedule(CacheEntry<K, V> entry) {
+        if (timerWheel == null) {
+            return;
+        }
+        long expirationTime = Long.MAX_VALUE;
+        if (expireAfterWriteNanos > 0L) {
+            expirationTime = entry.getWriteTime() + expireAfterWriteNanos;
+        }
+        if (expireAfterAccessNanos > 0L) {
+            long accessExpiration = entry.getAccessTime() + expireAfterAccessNanos;
+            if (expirationTime == Long.MAX_VALUE || accessExpiration - expirationTime < 0L) {
+                expirationTime = accessExpiration;
             }
-            return entry.getValue();
         }
-        return null;
+        if (expiry != null) {
+            long variableExpiration = entry.getVariableExpirationTime();
+            if (expirationTime == Long.MAX_VALUE || variableExpiration - expirationTime < 0L) {
+                expirationTime = variableExpiration;
+            }
+        }
+        entry.setExpirationTime(expirationTime);
+        timerWheel.schedule(entry);
     }
 
-    public void clear() {
-        cache.clear();
-        queue.clear();
+    private void refreshAsync(CacheEntry<K, V> entry) {
+        K key = entry.getKey();
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long writeTime = entry.getWriteTime();
+        try {
+            executor.execute(() -> {
+                long start = ticker.getAsLong();
+                try {
+                    V refreshed = refreshLoader.apply(key);
+                    stats.recordLoadSuccess(ticker.getAsLong() - start);
+                    completeRefresh(entry, writeTime, refreshed);
+                } catch (RuntimeException e) {
+                    stats.recordLoadFailure(ticker.getAsLong() - start);
+                    logger.warn("Failed to refresh cache entry with key {}: {}",
+                        key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            logger.warn("Refresh of cache entry with key {} was rejected by the executor.", key);
+        }
+    }
+
+    private void completeRefresh(CacheEntry<K, V> entry, long writeTime, V refreshed) {
+        evictionLock.lock();
+        try {
+            if (!entry.isAlive() || entry.getWriteTime() != writeTime) {
+                return;
+            }
+            int weight = refreshed == null ? 0 : weigh(entry.getKey(), refreshed);
+            if (refreshed == null || weight > maximumWeight) {
+                cache.remove(entry.getKey(), entry);
+                unlink(entry, refreshed == null ? RemovalCause.EXPLICIT : RemovalCause.SIZE);
+                return;
+            }
+            update(entry, refreshed, weight, ticker.getAsLong());
+            evictOverflow();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictOverflow() {
+        while (weightedSize > maximumWeight) {
+            CacheEntry<K, V> victim = policy.selectVictim();
+            if (victim == null) {
+                return;
+            }
+            cache.remove(victim.getKey(), victim);
+            unlink(victim, RemovalCause.SIZE);
+            logger.debug("Evicted key {} by {} policy to keep cache within maximum weight {}.",
+                victim.getKey(), evictionPolicy, maximumWeight);
+        }
+    }
+
+    private void unlink(CacheEntry<K, V> entry, RemovalCause cause) {
+        stats.recordEviction(cause);
+        policy.onRemove(entry);
+        if (timerWheel != null) {
+            timerWheel.deschedule(entry);
+        }
+        entry.retire();
+        weightedSize -= entry.getWeight();
+    }
+
+    private void tryMaintenance() {
+        if (evictionLock.tryLock()) {
+            try {
+                maintenance(ticker.getAsLong());
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void maintenance(long now) {
+        readBuffer.drainTo(entry -> {
+            if (entry.isAlive()) {
+                policy.onAccess(entry);
+                if (expireAfterAccessNanos > 0L) {
+                    schedule(entry);
+                }
+            }
+        });
+        if (timerWheel != null) {
+            timerWheel.advance(now, entry -> expire(entry, now));
+        }
+    }
+
+    // The wheel only knows the expiration time of the last schedule. A read dropped by the read
+    // buffer extended the entry without rescheduling it, so the entry is checked once more.
+    private void expire(CacheEntry<K, V> entry, long now) {
+        if (!hasExpired(entry, now)) {
+            schedule(entry);
+            return;
+        }
+        if (cache.remove(entry.getKey(), entry)) {
+            unlink(entry, RemovalCause.EXPIRED);
+            logger.debug("Expired cache entry with key {}.", entry.getKey());
+        }
+    }
+
+    public static final class Builder<K, V> {
+
+        private int capacity = 128;
+        private long maximumWeight;
+        private Weigher<? super K, ? super V> weigher;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private Expiry<? super K, ? super V> expiry;
+        private long refreshAfterWriteNanos;
+        private Function<? super K, ? extends V> refreshLoader;
+        private Executor executor = ForkJoinPool.commonPool();
+        private Function<String, ? extends K> keyParser;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximum number of entries. When a weigher is set the count is not bounded and this is
+         * only the expected number of entries, used to size the eviction policy.
+         */
+        public Builder<K, V> capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Bounds the cache by the total weight of its entries instead of their number.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight,
+                                           Weigher<? super K, ? super V> weigher) {
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Drops entries once this much time has passed since they were written. A {@code null}
+         * or zero duration disables the limit.
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWriteNanos = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Drops entries that have not been read or written for this long. A {@code null} or zero
+         * duration disables the limit.
+         */
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccessNanos = toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Gives every entry its own lifetime, computed by {@code expiry} when it is written. Can
+         * be combined with the fixed limits, an entry expires at the earliest of them.
+         */
+        public Builder<K, V> expireAfter(Expiry<? super K, ? super V> expiry) {
+            this.expiry = expiry;
+            return this;
+        }
+
+        /**
+         * Reloads an entry in the background on the first read after it is older than
+         * {@code duration}; readers keep getting the current value until the reload completes.
+         * A {@code null} loader result removes the entry. A {@code null} or zero duration
+         * disables refreshing.
+         */
+        public Builder<K, V> refreshAfterWrite(Duration duration,
+                                               Function<? super K, ? extends V> loader) {
+            this.refreshAfterWriteNanos = toNanos(duration);
+            this.refreshLoader = loader;
+            return this;
+        }
+
+        public Builder<K, V> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Marks the cache as distributed: its invalidations are shared with other nodes as
+         * {@code String.valueOf(key)} and parsed back with {@code keyParser} on arrival.
+         */
+        public Builder<K, V> keyParser(Function<String, ? extends K> keyParser) {
+            this.keyParser = keyParser;
+            return this;
+        }
+
+        Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public InMemoryCache<K, V> build() {
+            if (refreshAfterWriteNanos > 0L && refreshLoader == null) {
+                throw new IllegalArgumentException("Refresh requires a loader");
+            }
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor must not be null");
+            }
+            if (weigher != null && maximumWeight <= 0L) {
+                throw new IllegalArgumentException("Maximum weight must be positive");
+            }
+            return new InMemoryCache<>(this);
+        }
+
+        private static long toNanos(Duration duration) {
+            if (duration == null || duration.isZero()) {
+                return 0L;
+            }
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("Duration must not be negative");
+            }
+            return duration.toNanos();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.example.employeemanagementsystem.utils;
+
+/**
+ * Notified when an {@link InMemoryCache} entry is changed or removed by the application, as
+ * opposed to being loaded, refreshed, expired or evicted for size. Used to propagate
+ * invalidations to other nodes.
+ */
+public interface InvalidationListener<K> {
+
+    void onInvalidate(K key);
+
+    void onInvalidateAll();
+}
@@ -0,0 +1,82 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.TreeMap;
+
+/**
+ * Least-frequently-used eviction. Entries are grouped into buckets by access count; ties inside
+ * a bucket are broken by recency. The entry inserted last is never chosen while there are other
+ * candidates, otherwise every new key would be evicted straight away with a count of one.
+ */
+final class LfuPolicy<K, V> implements Policy<K, V> {
+
+    private final TreeMap<Integer, AccessOrderDeque<K, V>> buckets = new TreeMap<>();
+    private CacheEntry<K, V> newest;
+
+    @Override
+    public void onInsert(CacheEntry<K, V> entry) {
+        newest = entry;
+        entry.setFrequency(1);
+        bucket(1).addLast(entry);
+    }
+
+    @Override
+    public void onAccess(CacheEntry<K, V> entry) {
+        int frequency = entry.getFrequency();
+        if (frequency == Integer.MAX_VALUE) {
+            bucket(frequency).moveToBack(entry);
+            return;
+        }
+        unlinkFromBucket(entry);
+        entry.setFrequency(frequency + 1);
+        bucket(frequency + 1).addLast(entry);
+    }
+
+    @Override
+    public void onUpdate(CacheEntry<K, V> entry, int previousWeight) {
+        onAccess(entry);
+    }
+
+    @Override
+    public void onRemove(CacheEntry<K, V> entry) {
+        if (entry == newest) {
+            newest = null;
+        }
+        unlinkFromBucket(entry);
+    }
+
+    @Override
+    public CacheEntry<K, V> selectVictim() {
+        for (AccessOrderDeque<K, V> bucket : buckets.values()) {
+            CacheEntry<K, V> first = bucket.peekFirst();
+            if (first != newest) {
+                return first;
+            }
+            if (first.getNext() != null) {
+                return first.getNext();
+            }
+        }
+        return newest;
+    }
+
+    @Override
+    public void clear() {
+        newest = null;
+        buckets.values().forEach(AccessOrderDeque::clear);
+        buckets.clear();
+    }
+
+    private AccessOrderDeque<K, V> bucket(int frequency) {
+        return buckets.computeIfAbsent(frequency, f -> new AccessOrderDeque<>());
+    }
+
+    private void unlinkFromBucket(CacheEntry<K, V> entry) {
+        AccessOrderDeque<K, V> bucket = buckets.get(entry.getFrequency());
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(entry);
+        if (bucket.peekFirst() == null) {
+            buckets.remove(entry.getFrequency());
+        }
+    }
+}
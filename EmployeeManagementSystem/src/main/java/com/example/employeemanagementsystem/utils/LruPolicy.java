@@ -0,0 +1,36 @@
+package com.example.employeemanagementsystem.utils;
+
+final class LruPolicy<K, V> implements Policy<K, V> {
+
+    private final AccessOrderDeque<K, V> accessOrder = new AccessOrderDeque<>();
+
+    @Override
+    public void onInsert(CacheEntry<K, V> entry) {
+        accessOrder.addLast(entry);
+    }
+
+    @Override
+    public void onAccess(CacheEntry<K, V> entry) {
+        accessOrder.moveToBack(entry);
+    }
+
+    @Override
+    public void onUpdate(CacheEntry<K, V> entry, int previousWeight) {
+        accessOrder.moveToBack(entry);
+    }
+
+    @Override
+    public void onRemove(CacheEntry<K, V> entry) {
+        accessOrder.remove(entry);
+    }
+
+    @Override
+    public CacheEntry<K, V> selectVictim() {
+        return accessOrder.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        accessOrder.clear();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Rough retained-size estimates for a 64-bit JVM with compressed references, meant for
+ * {@link Weigher} implementations. They do not need to be exact, only proportional.
+ */
+public final class ObjectSizes {
+
+    public static final int OBJECT_HEADER = 12;
+    public static final int REFERENCE = 4;
+    public static final int CACHE_ENTRY = 64;
+    public static final int BOXED_LONG = 16;
+    public static final int LOCAL_DATE = 24;
+
+    private ObjectSizes() {
+    }
+
+    public static long object(int referenceFields, int primitiveBytes) {
+        return align(OBJECT_HEADER + (long) referenceFields * REFERENCE + primitiveBytes);
+    }
+
+    public static long string(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        // String object plus its backing byte[]; assumes Latin-1 compact strings.
+        return align(OBJECT_HEADER + 12L) + align(16L + value.length());
+    }
+
+    public static long bytes(byte[] value) {
+        return value == null ? 0L : align(16L + value.length);
+    }
+
+    public static long decimal(BigDecimal value) {
+        return value == null ? 0L : 40L;
+    }
+
+    public static long collection(Collection<?> values) {
+        if (values == null) {
+            return 0L;
+        }
+        return align(OBJECT_HEADER + 12L) + align(16L + (long) values.size() * REFERENCE);
+    }
+
+    public static int saturatedWeight(long bytes) {
+        return (int) Math.min(Math.max(bytes, 1L), Integer.MAX_VALUE);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7L) & ~7L;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.employeemanagementsystem.utils;
+
+/**
+ * Eviction order maintained by {@link InMemoryCache}. Implementations are not thread-safe;
+ * every call is made while holding the cache eviction lock.
+ */
+interface Policy<K, V> {
+
+    void onInsert(CacheEntry<K, V> entry);
+
+    void onAccess(CacheEntry<K, V> entry);
+
+    void onUpdate(CacheEntry<K, V> entry, int previousWeight);
+
+    void onRemove(CacheEntry<K, V> entry);
+
+    /**
+     * Chooses the entry to drop when the cache has grown over its capacity. The entry is still
+     * linked; the cache calls {@link #onRemove} once it has been removed from the map.
+     */
+    CacheEntry<K, V> selectVictim();
+
+    void clear();
+}
@@ -0,0 +1,81 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy buffer of read events. Readers never block: when a stripe is full or contended
+ * the event is dropped, which only makes the recency order slightly less precise. The buffer is
+ * drained by whichever thread holds the cache eviction lock.
+ */
+final class ReadBuffer<E> {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = STRIPE_SIZE / 2;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()));
+        count = Math.min(count * 2, 64);
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        stripeMask = count - 1;
+    }
+
+    /**
+     * Records the event and returns {@code true} when the stripe is filling up and should be
+     * drained soon.
+     */
+    boolean offer(E event) {
+        Stripe<E> stripe = stripes[stripeIndex()];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        long size = tail - head;
+        if (size >= STRIPE_SIZE) {
+            return true;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & STRIPE_MASK), event);
+            return size + 1 >= DRAIN_THRESHOLD;
+        }
+        return false;
+    }
+
+    // Must be called while holding the cache eviction lock.
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                E event = stripe.buffer.get(index);
+                if (event == null) {
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(event);
+                head++;
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+    }
+}
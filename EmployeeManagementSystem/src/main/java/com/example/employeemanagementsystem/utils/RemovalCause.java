@@ -0,0 +1,7 @@
+package com.example.employeemanagementsystem.utils;
+
+public enum RemovalCause {
+    EXPLICIT,
+    SIZE,
+    EXPIRED
+}
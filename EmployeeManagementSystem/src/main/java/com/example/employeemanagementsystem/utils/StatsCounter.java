@@ -0,0 +1,83 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention-free cache counters. Every counter is a {@link LongAdder}, so concurrent readers
+ * recording hits on the same cache do not fight over a single memory word.
+ */
+final class StatsCounter {
+
+    static final long[] LOAD_LATENCY_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 5000};
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder[] loadLatencyBuckets =
+        new LongAdder[LOAD_LATENCY_BOUNDS_MILLIS.length + 1];
+    private final Map<RemovalCause, LongAdder> evictionCounts = new EnumMap<>(RemovalCause.class);
+
+    StatsCounter() {
+        for (int i = 0; i < loadLatencyBuckets.length; i++) {
+            loadLatencyBuckets[i] = new LongAdder();
+        }
+        for (RemovalCause cause : RemovalCause.values()) {
+            evictionCounts.put(cause, new LongAdder());
+        }
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordLoadSuccess(long loadTimeNanos) {
+        loadSuccessCount.increment();
+        recordLoadTime(loadTimeNanos);
+    }
+
+    void recordLoadFailure(long loadTimeNanos) {
+        loadFailureCount.increment();
+        recordLoadTime(loadTimeNanos);
+    }
+
+    void recordEviction(RemovalCause cause) {
+        evictionCounts.get(cause).increment();
+    }
+
+    CacheStats snapshot(long size, long weightedSize) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < LOAD_LATENCY_BOUNDS_MILLIS.length; i++) {
+            histogram.put(LOAD_LATENCY_BOUNDS_MILLIS[i] + "ms", loadLatencyBuckets[i].sum());
+        }
+        histogram.put("+Inf", loadLatencyBuckets[LOAD_LATENCY_BOUNDS_MILLIS.length].sum());
+
+        Map<RemovalCause, Long> evictions = new EnumMap<>(RemovalCause.class);
+        evictionCounts.forEach((cause, count) -> evictions.put(cause, count.sum()));
+
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(),
+            loadFailureCount.sum(), totalLoadTime.sum(), Collections.unmodifiableMap(histogram),
+            Collections.unmodifiableMap(evictions), size, weightedSize);
+    }
+
+    private void recordLoadTime(long loadTimeNanos) {
+        totalLoadTime.add(loadTimeNanos);
+        long millis = TimeUnit.NANOSECONDS.toMillis(loadTimeNanos);
+        int bucket = 0;
+        while (bucket < LOAD_LATENCY_BOUNDS_MILLIS.length
+            && millis > LOAD_LATENCY_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        loadLatencyBuckets[bucket].increment();
+    }
+}
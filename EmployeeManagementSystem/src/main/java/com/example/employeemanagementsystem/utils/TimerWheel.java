@@ -0,0 +1,128 @@
+package com.example.employeemanagementsystem.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel holding expiring cache entries. Scheduling and cancelling are O(1);
+ * advancing the clock only visits the buckets whose time has passed and cascades entries from
+ * coarse wheels down to finer ones. Not thread-safe: callers hold the cache eviction lock.
+ */
+final class TimerWheel<K, V> {
+
+    // ~1.07s, ~1.14m, ~1.22h, ~1.63d, ~6.5d
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+        1L << 30, 1L << 36, 1L << 42, 1L << 47, 1L << 49, 1L << 49
+    };
+    private static final int[] SHIFTS = {30, 36, 42, 47, 49};
+
+    private final CacheEntry<K, V>[][] wheel;
+    private long time;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long now) {
+        this.time = now;
+        wheel = new CacheEntry[BUCKETS.length][];
+        for (int level = 0; level < BUCKETS.length; level++) {
+            wheel[level] = new CacheEntry[BUCKETS[level]];
+            for (int bucket = 0; bucket < BUCKETS[level]; bucket++) {
+                CacheEntry<K, V> sentinel = new CacheEntry<>(null, null);
+                sentinel.setPreviousInTimer(sentinel);
+                sentinel.setNextInTimer(sentinel);
+                wheel[level][bucket] = sentinel;
+            }
+        }
+    }
+
+    void schedule(CacheEntry<K, V> entry) {
+        deschedule(entry);
+        CacheEntry<K, V> sentinel = findBucket(entry.getExpirationTime());
+        CacheEntry<K, V> last = sentinel.getPreviousInTimer();
+        entry.setPreviousInTimer(last);
+        entry.setNextInTimer(sentinel);
+        last.setNextInTimer(entry);
+        sentinel.setPreviousInTimer(entry);
+    }
+
+    void deschedule(CacheEntry<K, V> entry) {
+        CacheEntry<K, V> next = entry.getNextInTimer();
+        if (next == null) {
+            return;
+        }
+        CacheEntry<K, V> previous = entry.getPreviousInTimer();
+        previous.setNextInTimer(next);
+        next.setPreviousInTimer(previous);
+        entry.setPreviousInTimer(null);
+        entry.setNextInTimer(null);
+    }
+
+    /**
+     * Moves the clock to {@code now} and hands every entry whose expiration time has passed to
+     * {@code expired}. Entries that are not due yet are rescheduled into a finer bucket.
+     */
+    void advance(long now, Consumer<CacheEntry<K, V>> expired) {
+        long previous = time;
+        time = now;
+        for (int level = 0; level < SHIFTS.length; level++) {
+            long previousTicks = previous >>> SHIFTS[level];
+            long currentTicks = now >>> SHIFTS[level];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(level, previousTicks, currentTicks - previousTicks, expired);
+        }
+    }
+
+    void clear() {
+        for (CacheEntry<K, V>[] buckets : wheel) {
+            for (CacheEntry<K, V> sentinel : buckets) {
+                CacheEntry<K, V> entry = sentinel.getNextInTimer();
+                while (entry != sentinel) {
+                    CacheEntry<K, V> next = entry.getNextInTimer();
+                    entry.setPreviousInTimer(null);
+                    entry.setNextInTimer(null);
+                    entry = next;
+                }
+                sentinel.setPreviousInTimer(sentinel);
+                sentinel.setNextInTimer(sentinel);
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta,
+                        Consumer<CacheEntry<K, V>> expired) {
+        CacheEntry<K, V>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+        for (int step = 0; step < steps; step++) {
+            CacheEntry<K, V> sentinel = buckets[(start + step) & mask];
+            CacheEntry<K, V> entry = sentinel.getNextInTimer();
+            sentinel.setPreviousInTimer(sentinel);
+            sentinel.setNextInTimer(sentinel);
+            while (entry != sentinel) {
+                CacheEntry<K, V> next = entry.getNextInTimer();
+                entry.setPreviousInTimer(null);
+                entry.setNextInTimer(null);
+                if (entry.getExpirationTime() - time <= 0L) {
+                    expired.accept(entry);
+                } else {
+                    schedule(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private CacheEntry<K, V> findBucket(long expirationTime) {
+        long duration = expirationTime - time;
+        int last = wheel.length - 1;
+        for (int level = 0; level < last; level++) {
+            if (duration < SPANS[level + 1]) {
+                long ticks = expirationTime >>> SHIFTS[level];
+                return wheel[level][(int) (ticks & (wheel[level].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.employeemanagementsystem.utils;
+
+/**
+ * Window TinyLFU. New entries land in a small LRU window; when they leave it they must beat the
+ * oldest entry of the main segmented LRU in the frequency sketch to be kept. One-off scans
+ * therefore pass through the window without flushing frequently used entries.
+ */
+final class TinyLfuPolicy<K, V> implements Policy<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final FrequencySketch sketch;
+    private final long maxWindow;
+    private final long maxProtected;
+    private long windowSize;
+    private long protectedSize;
+    private CacheEntry<K, V> candidate;
+
+    TinyLfuPolicy(long maximumWeight, int expectedEntries) {
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.maxWindow = Math.max(1L, (long) (maximumWeight * WINDOW_RATIO));
+        this.maxProtected = (long) ((maximumWeight - maxWindow) * PROTECTED_RATIO);
+    }
+
+    @Override
+    public void onInsert(CacheEntry<K, V> entry) {
+        sketch.increment(entry.getKey());
+        entry.setRegion(WINDOW);
+        window.addLast(entry);
+        windowSize += entry.getWeight();
+        while (windowSize > maxWindow && window.peekFirst() != null) {
+            CacheEntry<K, V> demoted = window.pollFirst();
+            windowSize -= demoted.getWeight();
+            demoted.setRegion(PROBATION);
+            probation.addLast(demoted);
+            candidate = demoted;
+        }
+    }
+
+    @Override
+    public void onAccess(CacheEntry<K, V> entry) {
+        sketch.increment(entry.getKey());
+        switch (entry.getRegion()) {
+            case WINDOW -> window.moveToBack(entry);
+            case PROBATION -> promote(entry);
+            default -> protectedSegment.moveToBack(entry);
+        }
+    }
+
+    @Override
+    public void onUpdate(CacheEntry<K, V> entry, int previousWeight) {
+        int delta = entry.getWeight() - previousWeight;
+        switch (entry.getRegion()) {
+            case WINDOW -> windowSize += delta;
+            case PROTECTED -> protectedSize += delta;
+            default -> {
+                // Probation is bounded by whatever the other segments leave over.
+            }
+        }
+        onAccess(entry);
+    }
+
+    @Override
+    public void onRemove(CacheEntry<K, V> entry) {
+        if (entry == candidate) {
+            candidate = null;
+        }
+        switch (entry.getRegion()) {
+            case WINDOW -> {
+                window.remove(entry);
+                windowSize -= entry.getWeight();
+            }
+            case PROBATION -> probation.remove(entry);
+            default -> {
+                protectedSegment.remove(entry);
+                protectedSize -= entry.getWeight();
+            }
+        }
+    }
+
+    @Override
+    public CacheEntry<K, V> selectVictim() {
+        CacheEntry<K, V> victim = probation.peekFirst();
+        if (victim == null) {
+            victim = protectedSegment.peekFirst();
+        }
+        if (victim == null) {
+            return window.peekFirst();
+        }
+        CacheEntry<K, V> challenger = candidate;
+        candidate = null;
+        if (challenger == null || challenger == victim) {
+            return victim;
+        }
+        return sketch.frequency(challenger.getKey()) > sketch.frequency(victim.getKey())
+            ? victim
+            : challenger;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        sketch.clear();
+        windowSize = 0;
+        protectedSize = 0;
+        candidate = null;
+    }
+
+    private void promote(CacheEntry<K, V> entry) {
+        if (entry == candidate) {
+            candidate = null;
+        }
+        probation.remove(entry);
+        entry.setRegion(PROTECTED);
+        protectedSegment.addLast(entry);
+        protectedSize += entry.getWeight();
+        while (protectedSize > maxProtected && protectedSegment.peekFirst() != null) {
+            CacheEntry<K, V> demoted = protectedSegment.pollFirst();
+            protectedSize -= demoted.getWeight();
+            demoted.setRegion(PROBATION);
+            probation.addLast(demoted);
+        }
+    }
+}
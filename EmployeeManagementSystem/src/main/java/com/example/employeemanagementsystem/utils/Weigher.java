@@ -0,0 +1,11 @@
+package com.example.employeemanagementsystem.utils;
+
+/**
+ * Computes the relative size of a cache entry, for example its approximate retained heap in
+ * bytes. Weights are calculated when an entry is written and never change while it is cached.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    int weigh(K key, V value);
+}
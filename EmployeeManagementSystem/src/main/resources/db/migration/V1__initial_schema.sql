@@ -0,0 +1,46 @@
+-- Schema as Hibernate generated it with ddl-auto=update. Databases created that way are
+-- baselined at this version and start with V2.
+
+CREATE TABLE departments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) UNIQUE,
+    description VARCHAR(255)
+);
+
+CREATE TABLE positions (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) UNIQUE,
+    description VARCHAR(255),
+    min_salary  NUMERIC(38, 2),
+    max_salary  NUMERIC(38, 2)
+);
+
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) UNIQUE
+);
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) UNIQUE,
+    password VARCHAR(255)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE employees (
+    id            BIGINT PRIMARY KEY,
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    email         VARCHAR(255) UNIQUE,
+    hire_date     DATE,
+    salary        NUMERIC(38, 2),
+    is_active     BOOLEAN,
+    department_id BIGINT REFERENCES departments (id),
+    position_id   BIGINT REFERENCES positions (id),
+    user_id       BIGINT UNIQUE REFERENCES users (id)
+);
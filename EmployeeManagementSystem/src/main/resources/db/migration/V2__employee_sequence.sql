@@ -0,0 +1,7 @@
+-- Employee ids used to come from an identity column. Hibernate now takes blocks of 50 ids from
+-- this sequence, so it has to start past every id already in use.
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('employees_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) FROM employees) + 50,
+    (SELECT last_value FROM employees_seq)));
@@ -0,0 +1,32 @@
+-- Indexes for the EmployeeDao finders. Every listing is a keyset page ordered by id, or by
+-- salary and id, so the order columns are part of each index and a page is read as a range.
+
+-- Salary range pages: ORDER BY salary, id.
+CREATE INDEX IF NOT EXISTS idx_employees_salary_id ON employees (salary, id);
+
+-- Department pages.
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department_id, id);
+
+-- Department and position pages.
+CREATE INDEX IF NOT EXISTS idx_employees_department_position_id
+    ON employees (department_id, position_id, id);
+
+-- Position pages.
+CREATE INDEX IF NOT EXISTS idx_employees_position_id ON employees (position_id, id);
+
+-- Role lookups start from the role; the primary key only serves lookups by user.
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_id ON user_roles (role_id, user_id);
+
+-- Joins from users to their employee. Schemas generated by Hibernate already have a unique
+-- constraint on the column, so the index is only added where none exists yet.
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_index i
+        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+        WHERE i.indrelid = 'employees'::regclass AND a.attname = 'user_id'
+    ) THEN
+        CREATE INDEX idx_employees_user_id ON employees (user_id);
+    END IF;
+END $$;
@@ -0,0 +1,2 @@
+-- Signed tokens carry the version of their user; raising it revokes every token issued before.
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
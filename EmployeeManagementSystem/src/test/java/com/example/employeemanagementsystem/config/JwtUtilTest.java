@@ -0,0 +1,54 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET =
+        "ThisIsAReallyLongAndSecureSecretKeyForHS256AlgorithmAtLeast256Bits";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000);
+
+    @Test
+    void parseToken_GeneratedToken_ShouldRestorePrincipal() {
+        String token = jwtUtil.generateToken(new AuthenticatedUser(7L, "admin", "secret", 3,
+            List.of(new SimpleGrantedAuthority("ADMIN"))));
+
+        AuthenticatedUser user = jwtUtil.parseToken(token);
+
+        assertEquals(7L, user.getUserId());
+        assertEquals("admin", user.getUsername());
+        assertEquals(3, user.getTokenVersion());
+        assertEquals(List.of(new SimpleGrantedAuthority("ADMIN")),
+            List.copyOf(user.getAuthorities()));
+    }
+
+    @Test
+    void parseToken_OtherKey_ShouldThrowJwtException() {
+        String token = new JwtUtil(SECRET.replace('T', 'X'), 60_000).generateToken(
+            new AuthenticatedUser(7L, "admin", "", 0, List.of()));
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void parseToken_WithoutUserClaims_ShouldThrowMalformedJwtException() {
+        String token = Jwts.builder()
+            .setSubject("admin")
+            .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+            .compact();
+
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.parseToken(token));
+    }
+}
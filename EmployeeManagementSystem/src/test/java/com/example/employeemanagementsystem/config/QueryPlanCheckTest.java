@@ -0,0 +1,52 @@
+package com.example.employeemanagementsystem.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlanCheckTest {
+
+    private static final Map<String, Long> TABLE_ROWS =
+        Map.of("employees", 100_000L, "users", 100_000L, "roles", 3L);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void findSequentialScans_NestedScanOfLargeTable_ShouldReportIt() throws Exception {
+        JsonNode plan = objectMapper.readTree("""
+            [{"Plan": {"Node Type": "Limit", "Plans": [
+              {"Node Type": "Hash Join", "Plans": [
+                {"Node Type": "Seq Scan", "Relation Name": "employees"},
+                {"Node Type": "Hash", "Plans": [
+                  {"Node Type": "Seq Scan", "Relation Name": "roles"}]}]}]}}]
+            """);
+
+        assertEquals(List.of("employees"),
+            QueryPlanCheck.findSequentialScans(plan, TABLE_ROWS, 10_000));
+    }
+
+    @Test
+    void findSequentialScans_IndexScans_ShouldReportNothing() throws Exception {
+        JsonNode plan = objectMapper.readTree("""
+            [{"Plan": {"Node Type": "Nested Loop", "Plans": [
+              {"Node Type": "Index Scan", "Relation Name": "employees"},
+              {"Node Type": "Index Only Scan", "Relation Name": "users"}]}}]
+            """);
+
+        assertTrue(QueryPlanCheck.findSequentialScans(plan, TABLE_ROWS, 10_000).isEmpty());
+    }
+
+    @Test
+    void findSequentialScans_UnknownTable_ShouldBeTreatedAsEmpty() throws Exception {
+        JsonNode plan = objectMapper.readTree("""
+            [{"Plan": {"Node Type": "Seq Scan", "Relation Name": "flyway_schema_history"}}]
+            """);
+
+        assertTrue(QueryPlanCheck.findSequentialScans(plan, TABLE_ROWS, 10_000).isEmpty());
+    }
+}
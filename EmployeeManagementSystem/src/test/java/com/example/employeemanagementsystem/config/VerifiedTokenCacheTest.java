@@ -0,0 +1,66 @@
+package com.example.employeemanagementsystem.config;
+
+import com.example.employeemanagementsystem.config.JwtUtil.VerifiedToken;
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+        "ThisIsAReallyLongAndSecureSecretKeyForHS256AlgorithmAtLeast256Bits";
+
+    private JwtUtil jwtUtil;
+    private InMemoryCache<Long, VerifiedToken> tokenCache;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(SECRET, 60_000));
+        tokenCache = InMemoryCache.<Long, VerifiedToken>builder()
+            .expireAfter((hash, verified) -> Duration.between(Instant.now(), verified.expiresAt()))
+            .build();
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, tokenCache);
+        token = jwtUtil.generateToken(new AuthenticatedUser(1L, "admin", "", 0, List.of()));
+    }
+
+    @Test
+    void verify_SameTokenTwice_ShouldVerifyOnce() {
+        AuthenticatedUser first = verifiedTokenCache.verify(token);
+        AuthenticatedUser second = verifiedTokenCache.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, tokenCache.stats().getHitCount());
+        verify(jwtUtil, times(1)).verifyToken(token);
+    }
+
+    @Test
+    void verify_OtherTokenWithSameHash_ShouldVerifyIt() {
+        AuthenticatedUser other = new AuthenticatedUser(2L, "other", "", 0, List.of());
+        tokenCache.put(VerifiedTokenCache.hash(token),
+            new VerifiedToken("other-token", other, Instant.now().plusSeconds(60)));
+
+        AuthenticatedUser user = verifiedTokenCache.verify(token);
+
+        assertEquals("admin", user.getUsername());
+        verify(jwtUtil, times(1)).verifyToken(token);
+    }
+
+    @Test
+    void verify_TamperedToken_ShouldThrowAndNotCache() {
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(JwtException.class, () -> verifiedTokenCache.verify(tampered));
+        assertEquals(0, tokenCache.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidationBridgeTest {
+
+    private InMemoryCache<Long, String> firstCache;
+    private InMemoryCache<Long, String> secondCache;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackInvalidationBus firstBus = new LoopbackInvalidationBus();
+        firstCache = distributedCache();
+        secondCache = distributedCache();
+        new CacheInvalidationBridge(Map.of("departmentCache", firstCache), firstBus)
+            .bindCaches();
+        new CacheInvalidationBridge(Map.of("departmentCache", secondCache),
+            firstBus.connectPeer()).bindCaches();
+        firstCache.put(1L, "old");
+        secondCache.put(1L, "old");
+    }
+
+    @Test
+    void put_ShouldInvalidateKeyOnOtherNode() {
+        firstCache.put(1L, "new");
+
+        assertEquals("new", firstCache.get(1L));
+        assertNull(secondCache.get(1L));
+    }
+
+    @Test
+    void clear_ShouldInvalidateOtherNode() {
+        secondCache.put(2L, "two");
+
+        firstCache.clear();
+
+        assertEquals(0, secondCache.size());
+    }
+
+    @Test
+    void bindCaches_LocalCache_ShouldNotBeBound() {
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus();
+        InMemoryCache<Long, String> localCache = new InMemoryCache<>(16);
+        new CacheInvalidationBridge(Map.of("departmentCache", localCache), bus).bindCaches();
+        localCache.put(1L, "local");
+
+        bus.connectPeer().publish("departmentCache", "1");
+
+        assertEquals("local", localCache.get(1L));
+    }
+
+    private static InMemoryCache<Long, String> distributedCache() {
+        return InMemoryCache.<Long, String>builder()
+            .capacity(16)
+            .keyParser(Long::valueOf)
+            .build();
+    }
+}
@@ -18,12 +18,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +44,10 @@ class DepartmentServiceTest {
     private UserService userService;
 
     @Mock
-    private InMemoryCache<Long, Department> departmentCache;
+    private InMemoryCache<Long, DepartmentDto> departmentCache;
+
+    @Mock
+    private JsonResponseCache jsonResponseCache;
 
     @InjectMocks
     private DepartmentService departmentService;
@@ -78,22 +86,22 @@ class DepartmentServiceTest {
 
     @Test
     void getDepartmentById_FromCache_ShouldReturnDepartmentDto() {
-        when(departmentCache.get(1L)).thenReturn(testDepartment);
-        when(departmentMapper.toDto(testDepartment)).thenReturn(testDepartmentDto);
+        when(departmentCache.get(eq(1L), any())).thenReturn(testDepartmentDto);
 
         DepartmentDto result = departmentService.getDepartmentById(1L);
 
-        assertNotNull(result);
-        assertEquals(testDepartmentDto.getId(), result.getId());
-        assertEquals(testDepartmentDto.getName(), result.getName());
-        verify(departmentCache, times(1)).get(1L);
+        assertSame(testDepartmentDto, result);
+        verify(departmentCache, times(1)).get(eq(1L), any());
         verify(departmentDao, never()).findById(anyLong());
-        verify(departmentMapper, times(1)).toDto(testDepartment);
+        verify(departmentMapper, never()).toDto(any());
     }
 
     @Test
-    void getDepartmentById_NotInCache_ShouldReturnDepartmentDto() {
-        when(departmentCache.get(1L)).thenReturn(null);
+    void getDepartmentById_NotInCache_ShouldLoadFromDatabase() {
+        when(departmentCache.get(eq(1L), any())).thenAnswer(invocation -> {
+            Function<Long, DepartmentDto> loader = invocation.getArgument(1);
+            return loader.apply(1L);
+        });
         when(departmentDao.findById(1L)).thenReturn(Optional.of(testDepartment));
         when(departmentMapper.toDto(testDepartment)).thenReturn(testDepartmentDto);
 
@@ -102,27 +110,54 @@ class DepartmentServiceTest {
         assertNotNull(result);
         assertEquals(testDepartmentDto.getId(), result.getId());
         assertEquals(testDepartmentDto.getName(), result.getName());
-        verify(departmentCache, times(1)).get(1L);
+        verify(departmentCache, times(1)).get(eq(1L), any());
         verify(departmentDao, times(1)).findById(1L);
-        verify(departmentCache, times(1)).put(1L, testDepartment);
         verify(departmentMapper, times(1)).toDto(testDepartment);
     }
 
     @Test
     void getDepartmentById_NonExistent_ShouldThrowResourceNotFoundException() {
-        when(departmentCache.get(1L)).thenReturn(null);
+        when(departmentCache.get(eq(1L), any())).thenAnswer(invocation -> {
+            Function<Long, DepartmentDto> loader = invocation.getArgument(1);
+            return loader.apply(1L);
+        });
         when(departmentDao.findById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
             () -> departmentService.getDepartmentById(1L));
 
         assertEquals("Department not found with id 1", exception.getMessage());
-        verify(departmentCache, times(1)).get(1L);
+        verify(departmentCache, times(1)).get(eq(1L), any());
         verify(departmentDao, times(1)).findById(1L);
         verify(departmentCache, never()).put(anyLong(), any());
         verify(departmentMapper, never()).toDto(any());
     }
 
+    @Test
+    void getDepartmentsByIds_ShouldLoadMissingDepartmentsInOneQuery() {
+        Department otherDepartment = new Department();
+        otherDepartment.setId(2L);
+        otherDepartment.setName("Other Department");
+        DepartmentDto otherDepartmentDto = new DepartmentDto();
+        otherDepartmentDto.setId(2L);
+        when(departmentCache.getAll(eq(List.of(1L, 2L)), any())).thenAnswer(invocation -> {
+            Function<Set<Long>, Map<Long, DepartmentDto>> loader = invocation.getArgument(1);
+            Map<Long, DepartmentDto> result = new LinkedHashMap<>();
+            result.put(1L, testDepartmentDto);
+            result.putAll(loader.apply(Set.of(2L)));
+            return result;
+        });
+        when(departmentDao.findAllById(Set.of(2L))).thenReturn(List.of(otherDepartment));
+        when(departmentMapper.toDto(otherDepartment)).thenReturn(otherDepartmentDto);
+
+        List<DepartmentDto> result = departmentService.getDepartmentsByIds(List.of(1L, 2L));
+
+        assertEquals(List.of(testDepartmentDto, otherDepartmentDto), result);
+        verify(departmentDao, times(1)).findAllById(Set.of(2L));
+        verify(departmentDao, never()).findById(anyLong());
+        verify(departmentMapper, never()).toDto(testDepartment);
+    }
+
     @Test
     void getAllDepartments_ShouldReturnListOfDepartmentDtos() {
         List<Department> departments = Collections.singletonList(testDepartment);
@@ -164,7 +199,8 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findByName("Test Department");
         verify(departmentMapper, times(1)).toEntity(testDepartmentCreateDto);
         verify(departmentDao, times(1)).save(testDepartment);
-        verify(departmentCache, times(1)).put(1L, testDepartment);
+        verify(departmentCache, times(1)).put(1L, testDepartmentDto);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentMapper, times(1)).toDto(testDepartment);
     }
 
@@ -199,7 +235,9 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findByName("Test Department");
         verify(departmentMapper, times(1)).updateDepartmentFromDto(testDepartmentCreateDto, testDepartment);
         verify(departmentDao, times(1)).save(testDepartment);
-        verify(departmentCache, times(1)).put(1L, testDepartment);
+        verify(departmentCache, times(1)).evict(1L);
+        verify(departmentCache, never()).put(anyLong(), any());
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentMapper, times(1)).toDto(testDepartment);
     }
 
@@ -239,7 +277,9 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findByName("Test Department");
         verify(departmentMapper, times(1)).updateDepartmentFromDto(testDepartmentCreateDto, testDepartment);
         verify(departmentDao, times(1)).save(testDepartment);
-        verify(departmentCache, times(1)).put(1L, testDepartment);
+        verify(departmentCache, times(1)).evict(1L);
+        verify(departmentCache, never()).put(anyLong(), any());
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentMapper, times(1)).toDto(testDepartment);
     }
 
@@ -269,6 +309,7 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findById(1L);
         verify(userService, times(1)).deleteUser(1L);
         verify(departmentCache, times(1)).evict(1L);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentDao, times(1)).delete(testDepartment);
     }
 
@@ -283,6 +324,7 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findById(1L);
         verify(userService, never()).deleteUser(anyLong());
         verify(departmentCache, times(1)).evict(1L);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentDao, times(1)).delete(testDepartment);
     }
 
@@ -312,6 +354,7 @@ class DepartmentServiceTest {
         verify(departmentDao, times(1)).findById(1L);
         verify(userService, never()).deleteUser(anyLong());
         verify(departmentCache, times(1)).evict(1L);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.DEPARTMENTS);
         verify(departmentDao, times(1)).delete(testDepartment);
     }
 }
\ No newline at end of file
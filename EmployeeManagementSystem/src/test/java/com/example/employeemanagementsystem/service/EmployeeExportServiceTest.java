@@ -0,0 +1,114 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.EmployeeDao;
+import com.example.employeemanagementsystem.dto.get.EmployeeDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.mapper.EmployeeMapper;
+import com.example.employeemanagementsystem.model.Department;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.service.EmployeeExportService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EmployeeExportService employeeExportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeExportService = new EmployeeExportService(employeeDao, employeeMapper,
+            new ObjectMapper().findAndRegisterModules(), entityManager);
+    }
+
+    @Test
+    void exportEmployees_AsNdjson_ShouldWriteOneLinePerEmployee() throws IOException {
+        when(employeeDao.streamAll()).thenReturn(Stream.of(employee(1L, "John"),
+            employee(2L, "Jane")));
+        when(employeeMapper.toDto(any())).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            EmployeeDto dto = new EmployeeDto();
+            dto.setId(employee.getId());
+            dto.setFirstName(employee.getFirstName());
+            return dto;
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = employeeExportService.exportEmployees(Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"firstName\":\"John\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,\"firstName\":\"Jane\""));
+    }
+
+    @Test
+    void exportEmployees_AsCsv_ShouldQuoteSpecialCharacters() throws IOException {
+        Employee employee = employee(1L, "Doe, \"JD\" John");
+        Department department = new Department();
+        department.setId(3L);
+        department.setName("R&D");
+        employee.setDepartment(department);
+        when(employeeDao.streamAll()).thenReturn(Stream.of(employee));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        employeeExportService.exportEmployees(Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertTrue(lines[0].startsWith("id,firstName,lastName"));
+        assertEquals("1,\"Doe, \"\"JD\"\" John\",,,,50000,,3,R&D,,,,", lines[1]);
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    void exportEmployees_ShouldClearPersistenceContextPeriodically() throws IOException {
+        int total = EmployeeExportService.CLEAR_INTERVAL * 2 + 1;
+        when(employeeDao.streamAll()).thenReturn(Stream.iterate(1L, id -> id + 1)
+            .limit(total)
+            .map(id -> employee(id, "Employee " + id)));
+
+        long count = employeeExportService.exportEmployees(Format.CSV, new ByteArrayOutputStream());
+
+        assertEquals(total, count);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void formatOf_UnknownFormat_ShouldThrowValidationException() {
+        assertEquals(Format.CSV, Format.of("csv"));
+        assertThrows(ValidationException.class, () -> Format.of("xml"));
+    }
+
+    private static Employee employee(Long id, String firstName) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName(firstName);
+        employee.setSalary(BigDecimal.valueOf(50000));
+        return employee;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.model.EmployeeImportTask;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportWorkerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeImportWorker importWorker;
+
+    @Test
+    void runImportAsync_AllChunksCommit_ShouldCompleteWithFailedRows() {
+        EmployeeImportTask task = newTask(5);
+        when(employeeService.importChunk(anyList(), anyInt())).thenReturn(List.of());
+        when(employeeService.importChunk(anyList(), eq(2)))
+            .thenReturn(List.of(new FailedRow(3, "User not found with id 4")));
+
+        importWorker.runImportAsync(task);
+
+        assertEquals("COMPLETED", task.getStatus());
+        assertEquals(3, task.getCommittedChunks());
+        assertEquals(5, task.getProcessedRows());
+        assertEquals(4, task.getCreatedRows());
+        assertEquals(1, task.getFailedRowCount());
+        assertEquals(3, task.getFailedRows().get(0).row());
+        assertNull(task.getRows(), "Rows should be released once the import is done");
+        verify(employeeService, times(3)).importChunk(anyList(), anyInt());
+    }
+
+    @Test
+    void runImportAsync_ChunkFails_ShouldResumeFromLastCommittedChunk() {
+        EmployeeImportTask task = newTask(6);
+        when(employeeService.importChunk(anyList(), anyInt())).thenReturn(List.of());
+        when(employeeService.importChunk(anyList(), eq(2)))
+            .thenThrow(new IllegalStateException("connection reset"))
+            .thenReturn(List.of());
+
+        importWorker.runImportAsync(task);
+
+        assertEquals("FAILED", task.getStatus());
+        assertTrue(task.isResumable());
+        assertEquals(2, task.getNextRow());
+        assertEquals(2, task.getCreatedRows());
+
+        task.markPending();
+        importWorker.runImportAsync(task);
+
+        assertEquals("COMPLETED", task.getStatus());
+        assertEquals(6, task.getCreatedRows());
+        verify(employeeService, times(1)).importChunk(anyList(), eq(0));
+        verify(employeeService, times(2)).importChunk(anyList(), eq(2));
+        verify(employeeService, times(1)).importChunk(anyList(), eq(4));
+    }
+
+    private static EmployeeImportTask newTask(int rows) {
+        List<EmployeeCreateDto> dtos = IntStream.range(0, rows)
+            .mapToObj(i -> new EmployeeCreateDto())
+            .collect(Collectors.toList());
+        return new EmployeeImportTask("task", dtos, CHUNK_SIZE);
+    }
+}
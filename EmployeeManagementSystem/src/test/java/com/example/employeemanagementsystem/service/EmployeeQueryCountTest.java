@@ -0,0 +1,148 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.mapper.DepartmentMapperImpl;
+import com.example.employeemanagementsystem.mapper.EmployeeMapperImpl;
+import com.example.employeemanagementsystem.mapper.PositionMapperImpl;
+import com.example.employeemanagementsystem.mapper.UserMapperImpl;
+import com.example.employeemanagementsystem.model.Department;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.Position;
+import com.example.employeemanagementsystem.model.Role;
+import com.example.employeemanagementsystem.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the employee listings against N+1 queries: the number of SQL statements a listing
+ * issues must not depend on how many employees it returns.
+ */
+@DataJpaTest(properties = {
+    "spring.application.name=query-count-test",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({EmployeeService.class, EmployeeReferenceResolver.class, EmployeeMapperImpl.class,
+    DepartmentMapperImpl.class, PositionMapperImpl.class, UserMapperImpl.class})
+class EmployeeQueryCountTest {
+
+    private static final BigDecimal SALARY = BigDecimal.valueOf(50000);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @MockitoBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    private Department department;
+    private Position position;
+    private Role role;
+    private int employeeCount;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        entityManager.persist(department);
+        position = new Position();
+        position.setName("Developer");
+        entityManager.persist(position);
+        role = new Role();
+        role.setName("ROLE_USER");
+        entityManager.persist(role);
+    }
+
+    @Test
+    void getEmployeePageBySalaryRange_ShouldIssueConstantNumberOfQueries() {
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageBySalaryRange(null, null, null, null));
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageBySalaryRange(SALARY, SALARY, null, null));
+    }
+
+    @Test
+    void getEmployeePageByDepartmentAndPosition_ShouldIssueConstantNumberOfQueries() {
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageByDepartmentId(department.getId(), null, null));
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageByPositionId(position.getId(), null, null));
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageByDepartmentIdAndPositionId(
+                department.getId(), position.getId(), null, null));
+    }
+
+    @Test
+    void getEmployeePageByRoleName_ShouldIssueConstantNumberOfQueries() {
+        assertConstantQueryCount(() -> employeeService
+            .getEmployeePageByRoleName("ROLE_USER", null, null));
+    }
+
+    private void assertConstantQueryCount(Runnable listing) {
+        persistEmployees(2);
+        long few = countStatements(listing);
+        persistEmployees(20);
+        long many = countStatements(listing);
+
+        assertEquals(few, many,
+            "Listing " + employeeCount + " employees should issue as many statements as before");
+    }
+
+    private long countStatements(Runnable listing) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        listing.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistEmployees(int count) {
+        Role managedRole = entityManager.find(Role.class, role.getId());
+        Department managedDepartment = entityManager.find(Department.class, department.getId());
+        Position managedPosition = entityManager.find(Position.class, position.getId());
+        for (int i = 0; i < count; i++) {
+            int number = ++employeeCount;
+            User user = new User();
+            user.setUsername("user" + number);
+            user.setPassword("password");
+            user.setRoles(new HashSet<>(Set.of(managedRole)));
+            entityManager.persist(user);
+
+            Employee employee = new Employee();
+            employee.setFirstName("First" + number);
+            employee.setLastName("Last" + number);
+            employee.setEmail("employee" + number + "@example.com");
+            employee.setHireDate(LocalDate.of(2024, 1, 1));
+            employee.setSalary(SALARY);
+            employee.setIsActive(true);
+            employee.setDepartment(managedDepartment);
+            employee.setPosition(managedPosition);
+            employee.setUser(user);
+            entityManager.persist(employee);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.DepartmentDao;
+import com.example.employeemanagementsystem.dao.PositionDao;
+import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.model.Department;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.Position;
+import com.example.employeemanagementsystem.model.User;
+import com.example.employeemanagementsystem.service.EmployeeReferenceResolver.EmployeeReferences;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeReferenceResolverTest {
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private DepartmentDao departmentDao;
+
+    @Mock
+    private PositionDao positionDao;
+
+    @InjectMocks
+    private EmployeeReferenceResolver referenceResolver;
+
+    private Department department;
+    private Position position;
+
+    @BeforeEach
+    void setUp() {
+        department = new Department();
+        department.setId(10L);
+
+        position = new Position();
+        position.setId(20L);
+    }
+
+    @Test
+    void resolve_SharedReferences_ShouldLoadEachTypeOnce() {
+        List<EmployeeCreateDto> dtos = List.of(dto(1L, 10L, 20L), dto(2L, 10L, 20L), dto(3L, 10L, null));
+        when(userDao.findByIdIn(anyCollection()))
+            .thenAnswer(invocation -> users(invocation.getArgument(0)));
+        when(departmentDao.findAllById(List.of(10L))).thenReturn(List.of(department));
+        when(positionDao.findAllById(List.of(20L))).thenReturn(List.of(position));
+
+        EmployeeReferences references = referenceResolver.resolve(dtos);
+        Employee employee = references.attach(dtos.get(2), new Employee());
+
+        assertEquals(3, references.users().size());
+        assertEquals(3L, employee.getUser().getId());
+        assertSame(department, employee.getDepartment());
+        assertNull(employee.getPosition());
+        verify(userDao, times(1)).findByIdIn(List.of(1L, 2L, 3L));
+        verify(departmentDao, times(1)).findAllById(anyCollection());
+        verify(positionDao, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    void resolve_ManyUsers_ShouldSplitIdsIntoBatches() {
+        List<EmployeeCreateDto> dtos = LongStream
+            .rangeClosed(1, EmployeeReferenceResolver.ID_BATCH_SIZE + 1)
+            .mapToObj(id -> dto(id, null, null))
+            .collect(Collectors.toList());
+        when(userDao.findByIdIn(anyCollection()))
+            .thenAnswer(invocation -> users(invocation.getArgument(0)));
+
+        EmployeeReferences references = referenceResolver.resolve(dtos);
+
+        assertEquals(dtos.size(), references.users().size());
+        verify(userDao, times(2)).findByIdIn(anyCollection());
+        verifyNoInteractions(departmentDao, positionDao);
+    }
+
+    @Test
+    void resolve_BrokenReferences_ShouldReportAllOfThem() {
+        List<EmployeeCreateDto> dtos = Arrays.asList(
+            dto(1L, 10L, 20L), null, dto(2L, 11L, 20L), dto(null, 10L, 20L), dto(3L, 10L, 21L));
+        when(userDao.findByIdIn(anyCollection())).thenReturn(users(List.of(1L)));
+        when(departmentDao.findAllById(anyCollection())).thenReturn(List.of(department));
+        when(positionDao.findAllById(anyCollection())).thenReturn(List.of(position));
+
+        Exception exception = assertThrows(ValidationException.class,
+            () -> referenceResolver.resolve(dtos));
+
+        assertEquals("Bulk creation failed: employee DTO or user ID is null at positions [1, 3]; "
+                + "users not found with ids [2, 3]; departments not found with ids [11]; "
+                + "positions not found with ids [21]",
+            exception.getMessage());
+    }
+
+    @Test
+    void resolve_ManyMissingUsers_ShouldTruncateReport() {
+        List<EmployeeCreateDto> dtos = LongStream
+            .rangeClosed(1, EmployeeReferenceResolver.MAX_REPORTED_IDS + 5)
+            .mapToObj(id -> dto(id, null, null))
+            .collect(Collectors.toList());
+        when(userDao.findByIdIn(anyCollection())).thenReturn(List.of());
+
+        Exception exception = assertThrows(ValidationException.class,
+            () -> referenceResolver.resolve(dtos));
+
+        assertTrue(exception.getMessage().endsWith(" and 5 more"));
+    }
+
+    private static EmployeeCreateDto dto(Long userId, Long departmentId, Long positionId) {
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setUserId(userId);
+        dto.setDepartmentId(departmentId);
+        dto.setPositionId(positionId);
+        return dto;
+    }
+
+    private static List<User> users(Collection<Long> ids) {
+        List<User> users = new ArrayList<>();
+        for (Long id : ids) {
+            User user = new User();
+            user.setId(id);
+            users.add(user);
+        }
+        return users;
+    }
+}
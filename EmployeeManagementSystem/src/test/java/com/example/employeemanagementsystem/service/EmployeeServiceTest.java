@@ -1,32 +1,51 @@
 package com.example.employeemanagementsystem.service;
 
 import com.example.employeemanagementsystem.dao.EmployeeDao;
+import com.example.employeemanagementsystem.dao.EmployeeFilter;
+import com.example.employeemanagementsystem.dao.EmployeeRow;
 import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.dao.UserRoleRow;
 import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.CursorPageDto;
 import com.example.employeemanagementsystem.dto.get.DepartmentDto;
 import com.example.employeemanagementsystem.dto.get.EmployeeDto;
 import com.example.employeemanagementsystem.dto.get.PositionDto;
 import com.example.employeemanagementsystem.dto.get.UserDto;
+import com.example.employeemanagementsystem.dto.update.EmployeeStatusChangeDto;
+import com.example.employeemanagementsystem.dto.update.SalaryChangeDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.exception.ValidationException;
 import com.example.employeemanagementsystem.mapper.EmployeeMapper;
 import com.example.employeemanagementsystem.model.Department;
 import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
 import com.example.employeemanagementsystem.model.Position;
 import com.example.employeemanagementsystem.model.User;
+import com.example.employeemanagementsystem.service.EmployeeReferenceResolver.EmployeeReferences;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +64,18 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EmployeeReferenceResolver referenceResolver;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -57,6 +88,7 @@ class EmployeeServiceTest {
     private UserDto testUserDto;
     private DepartmentDto testDepartmentDto;
     private PositionDto testPositionDto;
+    private EmployeeRow testEmployeeRow;
 
     @BeforeEach
     void setUp() {
@@ -118,6 +150,11 @@ class EmployeeServiceTest {
         testEmployeeDto.setUser(testUserDto);
         testEmployeeDto.setDepartment(testDepartmentDto);
         testEmployeeDto.setPosition(testPositionDto);
+
+        testEmployeeRow = new EmployeeRow(1L, "John", "Doe", "john.doe@example.com",
+            LocalDate.of(2023, 1, 1), BigDecimal.valueOf(50000), true,
+            1L, "Test Department", null, 1L, "Test Position", null, null, null,
+            1L, "testUser");
     }
 
     @Test
@@ -169,6 +206,7 @@ class EmployeeServiceTest {
         verify(employeeDao, times(1)).save(testEmployee);
         verify(employeeMapper, times(1)).toDto(testEmployee);
         verify(userDao, never()).findById(anyLong());
+        verifyNoInteractions(userDetailsService);
     }
 
     @Test
@@ -200,6 +238,22 @@ class EmployeeServiceTest {
         verify(employeeMapper, times(1)).toDto(testEmployee);
     }
 
+    @Test
+    void updateEmployee_WithNewEmail_ShouldEvictOldAndNewEmailLogins() {
+        testEmployeeCreateDto.setEmail("jane.doe@example.com");
+        when(employeeDao.findById(1L)).thenReturn(Optional.of(testEmployee));
+        doAnswer(invocation -> {
+            testEmployee.setEmail("jane.doe@example.com");
+            return null;
+        }).when(employeeMapper).updateEmployeeFromDto(testEmployeeCreateDto, testEmployee);
+        when(employeeDao.save(testEmployee)).thenReturn(testEmployee);
+
+        employeeService.updateEmployee(1L, testEmployeeCreateDto);
+
+        verify(userDetailsService, times(1)).evict("john.doe@example.com");
+        verify(userDetailsService, times(1)).evict("jane.doe@example.com");
+    }
+
     @Test
     void updateEmployee_WithNonExistentEmployee_ShouldThrowException() {
         when(employeeDao.findById(1L)).thenReturn(Optional.empty());
@@ -235,176 +289,112 @@ class EmployeeServiceTest {
 
     @Test
     void getEmployeeDtoById_WhenEmployeeExists_ShouldReturnEmployeeDto() {
-        when(employeeDao.findById(1L)).thenReturn(Optional.of(testEmployee));
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
+        List<UserRoleRow> roles = List.of(new UserRoleRow(1L, 1L, "ROLE_USER"));
+        when(employeeDao.findRowById(1L)).thenReturn(Optional.of(testEmployeeRow));
+        when(userDao.findRolesByUserIds(Set.of(1L))).thenReturn(roles);
+        when(employeeMapper.toDtos(List.of(testEmployeeRow), roles))
+            .thenReturn(List.of(testEmployeeDto));
 
         EmployeeDto result = employeeService.getEmployeeDtoById(1L);
 
         assertNotNull(result, "EmployeeDto should not be null");
         assertEquals(testEmployeeDto.getId(), result.getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findById(1L);
-        verify(employeeMapper, times(1)).toDto(testEmployee);
+        verify(employeeDao, times(1)).findRowById(1L);
+        verify(employeeDao, never()).findById(anyLong());
     }
 
     @Test
     void getEmployeeDtoById_WhenEmployeeNotExists_ShouldThrowException() {
-        when(employeeDao.findById(1L)).thenReturn(Optional.empty());
+        when(employeeDao.findRowById(1L)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(ResourceNotFoundException.class,
             () -> employeeService.getEmployeeDtoById(1L));
 
         assertEquals("Employee not found with id 1", exception.getMessage(), "Exception message should match");
-        verify(employeeDao, times(1)).findById(1L);
-    }
-
-    @Test
-    void getAllEmployees_ShouldReturnListOfEmployeeDtos() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findAll()).thenReturn(employees);
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
-
-        List<EmployeeDto> result = employeeService.getAllEmployees();
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(1, result.size(), "Result list should have one employee");
-        assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findAll();
-        verify(employeeMapper, times(1)).toDto(testEmployee);
+        verify(employeeDao, times(1)).findRowById(1L);
     }
 
     @Test
-    void deleteEmployee_WhenEmployeeExists_ShouldCallDelete() {
-        when(employeeDao.existsById(1L)).thenReturn(true);
-        doNothing().when(employeeDao).deleteById(1L);
+    void deleteEmployee_WhenEmployeeExists_ShouldCallDeleteAndEvictLogin() {
+        when(employeeDao.findById(1L)).thenReturn(Optional.of(testEmployee));
 
         employeeService.deleteEmployee(1L);
 
-        verify(employeeDao, times(1)).existsById(1L);
-        verify(employeeDao, times(1)).deleteById(1L);
+        verify(employeeDao, times(1)).delete(testEmployee);
+        verify(userDetailsService, times(1)).evict("john.doe@example.com");
     }
 
     @Test
     void deleteEmployee_WhenEmployeeNotExists_ShouldThrowException() {
-        when(employeeDao.existsById(1L)).thenReturn(false);
+        when(employeeDao.findById(1L)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(ResourceNotFoundException.class,
             () -> employeeService.deleteEmployee(1L));
 
         assertEquals("Employee not found with id 1", exception.getMessage(), "Exception message should match");
-        verify(employeeDao, times(1)).existsById(1L);
-        verify(employeeDao, never()).deleteById(anyLong());
+        verify(employeeDao, times(1)).findById(1L);
+        verify(employeeDao, never()).delete(any());
     }
 
     @Test
-    void getEmployeesBySalaryRange_WithMinAndMax_ShouldReturnFilteredList() {
-        BigDecimal minSalary = BigDecimal.valueOf(40000);
-        BigDecimal maxSalary = BigDecimal.valueOf(60000);
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findBySalaryBetween(minSalary, maxSalary)).thenReturn(employees);
-
-        List<Employee> result = employeeService.getEmployeesBySalaryRange(minSalary, maxSalary);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(testEmployee, result.get(0), "Returned employee should match test employee");
-        verify(employeeDao, times(1)).findBySalaryBetween(minSalary, maxSalary);
+    void getEmployeePageBySalaryRange_WithoutBounds_ShouldSeekPastLastId() {
+        EmployeeFilter filter = EmployeeFilter.bySalary(null, null);
+        when(employeeDao.findRows(eq(filter), any(), any()))
+            .thenReturn(window(true))
+            .thenReturn(window(false));
+        when(userDao.findRolesByUserIds(Set.of(1L))).thenReturn(List.of());
+        when(employeeMapper.toDtos(List.of(testEmployeeRow), List.of()))
+            .thenReturn(List.of(testEmployeeDto));
+
+        CursorPageDto<EmployeeDto> first =
+            employeeService.getEmployeePageBySalaryRange(null, null, null, null);
+        CursorPageDto<EmployeeDto> second =
+            employeeService.getEmployeePageBySalaryRange(null, null, first.getNext(), null);
+
+        assertEquals(List.of(testEmployeeDto), first.getItems());
+        assertNotNull(first.getNext(), "First page should have a next cursor");
+        assertNull(second.getNext(), "Last page should not have a next cursor");
+        ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(employeeDao, times(2)).findRows(eq(filter), positions.capture(),
+            eq(Limit.of(EmployeeService.DEFAULT_PAGE_SIZE)));
+        assertTrue(positions.getAllValues().get(0).isInitial());
+        assertEquals(Map.of("id", 1L),
+            ((KeysetScrollPosition) positions.getAllValues().get(1)).getKeys());
     }
 
     @Test
-    void getEmployeesBySalaryRange_WithMinOnly_ShouldReturnFilteredList() {
+    void getEmployeePageBySalaryRange_WithBounds_ShouldSeekPastLastSalaryAndId() {
         BigDecimal minSalary = BigDecimal.valueOf(40000);
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findBySalaryGreaterThanEqual(minSalary)).thenReturn(employees);
-
-        List<Employee> result = employeeService.getEmployeesBySalaryRange(minSalary, null);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(testEmployee, result.get(0), "Returned employee should match test employee");
-        verify(employeeDao, times(1)).findBySalaryGreaterThanEqual(minSalary);
-    }
-
-    @Test
-    void getEmployeesBySalaryRange_WithMaxOnly_ShouldReturnFilteredList() {
         BigDecimal maxSalary = BigDecimal.valueOf(60000);
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findBySalaryLessThanEqual(maxSalary)).thenReturn(employees);
-
-        List<Employee> result = employeeService.getEmployeesBySalaryRange(null, maxSalary);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(testEmployee, result.get(0), "Returned employee should match test employee");
-        verify(employeeDao, times(1)).findBySalaryLessThanEqual(maxSalary);
+        EmployeeFilter filter = EmployeeFilter.bySalary(minSalary, maxSalary);
+        when(employeeDao.findRows(eq(filter), any(), any())).thenReturn(window(true));
+        when(userDao.findRolesByUserIds(Set.of(1L))).thenReturn(List.of());
+        when(employeeMapper.toDtos(List.of(testEmployeeRow), List.of()))
+            .thenReturn(List.of(testEmployeeDto));
+
+        String next = employeeService
+            .getEmployeePageBySalaryRange(minSalary, maxSalary, null, 1000).getNext();
+        employeeService.getEmployeePageBySalaryRange(minSalary, maxSalary, next, 1000);
+
+        ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+        verify(employeeDao, times(2)).findRows(eq(filter), positions.capture(),
+            eq(Limit.of(EmployeeService.MAX_PAGE_SIZE)));
+        assertEquals(Map.of("salary", BigDecimal.valueOf(50000), "id", 1L),
+            ((KeysetScrollPosition) positions.getAllValues().get(1)).getKeys());
     }
 
     @Test
-    void getEmployeesBySalaryRange_WithNullMinAndMax_ShouldReturnAllEmployees() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findAll()).thenReturn(employees);
-
-        List<Employee> result = employeeService.getEmployeesBySalaryRange(null, null);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(testEmployee, result.get(0), "Returned employee should match test employee");
-        verify(employeeDao, times(1)).findAll();
+    void getEmployeePageByRoleName_WithMalformedCursor_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class,
+            () -> employeeService.getEmployeePageByRoleName("ROLE_USER", "not a cursor", null));
+        verifyNoInteractions(employeeDao);
     }
 
     @Test
-    void getEmployeesByDepartmentId_ShouldReturnEmployeeDtos() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findByDepartmentId(1L)).thenReturn(employees);
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
-
-        List<EmployeeDto> result = employeeService.getEmployeesByDepartmentId(1L);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(1, result.size(), "Result list should have one employee");
-        assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findByDepartmentId(1L);
-        verify(employeeMapper, times(1)).toDto(testEmployee);
-    }
-
-    @Test
-    void getEmployeesByPositionId_ShouldReturnEmployeeDtos() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findByPositionId(1L)).thenReturn(employees);
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
-
-        List<EmployeeDto> result = employeeService.getEmployeesByPositionId(1L);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(1, result.size(), "Result list should have one employee");
-        assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findByPositionId(1L);
-        verify(employeeMapper, times(1)).toDto(testEmployee);
-    }
-
-    @Test
-    void getEmployeesByDepartmentIdAndPositionId_ShouldReturnEmployeeDtos() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findByDepartmentIdAndPositionId(1L, 1L)).thenReturn(employees);
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
-
-        List<EmployeeDto> result = employeeService.getEmployeesByDepartmentIdAndPositionId(1L, 1L);
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(1, result.size(), "Result list should have one employee");
-        assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findByDepartmentIdAndPositionId(1L, 1L);
-        verify(employeeMapper, times(1)).toDto(testEmployee);
-    }
-
-    @Test
-    void getEmployeesByRoleNameNative_ShouldReturnEmployeeDtos() {
-        List<Employee> employees = Collections.singletonList(testEmployee);
-        when(employeeDao.findByRoleNameNative("ROLE_USER")).thenReturn(employees);
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
-
-        List<EmployeeDto> result = employeeService.getEmployeesByRoleNameNative("ROLE_USER");
-
-        assertFalse(result.isEmpty(), "Result list should not be empty");
-        assertEquals(1, result.size(), "Result list should have one employee");
-        assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "Returned DTO ID should match");
-        verify(employeeDao, times(1)).findByRoleNameNative("ROLE_USER");
-        verify(employeeMapper, times(1)).toDto(testEmployee);
+    void getEmployeePageByDepartmentId_WithNonPositiveSize_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class,
+            () -> employeeService.getEmployeePageByDepartmentId(1L, null, 0));
+        verifyNoInteractions(employeeDao);
     }
 
     @Test
@@ -431,10 +421,14 @@ class EmployeeServiceTest {
         secondEmployeeCreateDto.setDepartmentId(1L);
         secondEmployeeCreateDto.setPositionId(1L);
 
+        User secondUser = new User();
+        secondUser.setId(2L);
+
+        Employee firstEmployee = new Employee();
+        firstEmployee.setFirstName("John");
+
         Employee secondEmployee = new Employee();
-        secondEmployee.setId(2L);
         secondEmployee.setFirstName("Jane");
-        secondEmployee.setLastName("Smith");
 
         EmployeeDto secondEmployeeDto = new EmployeeDto();
         secondEmployeeDto.setId(2L);
@@ -443,12 +437,11 @@ class EmployeeServiceTest {
 
         List<EmployeeCreateDto> dtos = Arrays.asList(testEmployeeCreateDto, secondEmployeeCreateDto);
 
-        when(employeeMapper.toEntity(testEmployeeCreateDto)).thenReturn(testEmployee);
-        when(employeeMapper.toEntity(secondEmployeeCreateDto)).thenReturn(secondEmployee);
-        when(userDao.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userDao.findById(2L)).thenReturn(Optional.of(new User()));
-        when(employeeDao.saveAll(anyList())).thenReturn(Arrays.asList(testEmployee, secondEmployee));
-        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
+        when(referenceResolver.resolve(dtos)).thenReturn(references(testUser, secondUser));
+        when(employeeMapper.toEntityWithoutReferences(testEmployeeCreateDto)).thenReturn(firstEmployee);
+        when(employeeMapper.toEntityWithoutReferences(secondEmployeeCreateDto)).thenReturn(secondEmployee);
+        when(employeeDao.saveAll(anyList())).thenReturn(Arrays.asList(firstEmployee, secondEmployee));
+        when(employeeMapper.toDto(firstEmployee)).thenReturn(testEmployeeDto);
         when(employeeMapper.toDto(secondEmployee)).thenReturn(secondEmployeeDto);
 
         List<EmployeeDto> result = employeeService.createEmployeesBulk(dtos);
@@ -457,11 +450,45 @@ class EmployeeServiceTest {
         assertEquals(2, result.size(), "Result list should contain two EmployeeDtos");
         assertEquals(testEmployeeDto.getId(), result.get(0).getId(), "First EmployeeDto ID should match");
         assertEquals(secondEmployeeDto.getId(), result.get(1).getId(), "Second EmployeeDto ID should match");
-        verify(userDao, times(1)).findById(1L);
-        verify(userDao, times(1)).findById(2L);
+        assertSame(testUser, firstEmployee.getUser(), "First employee should get the resolved user");
+        assertSame(secondUser, secondEmployee.getUser(), "Second employee should get the resolved user");
+        assertSame(testDepartment, secondEmployee.getDepartment(), "Department should be shared");
+        assertSame(testPosition, secondEmployee.getPosition(), "Position should be shared");
+        verify(referenceResolver, times(1)).resolve(dtos);
         verify(employeeDao, times(1)).saveAll(anyList());
-        verify(employeeMapper, times(2)).toEntity(any());
+        verify(employeeMapper, never()).toEntity(any());
         verify(employeeMapper, times(2)).toDto(any());
+        verifyNoInteractions(userDao);
+    }
+
+    @Test
+    void createEmployeesBulk_MoreThanOneChunk_ShouldFlushAndDetachEachChunk() {
+        List<EmployeeCreateDto> dtos =
+            Collections.nCopies(EmployeeService.BULK_CHUNK_SIZE + 1, testEmployeeCreateDto);
+        when(referenceResolver.resolve(dtos)).thenReturn(references(testUser));
+        when(employeeMapper.toEntityWithoutReferences(testEmployeeCreateDto))
+            .thenAnswer(invocation -> new Employee());
+        when(employeeDao.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(employeeMapper.toDto(any(Employee.class))).thenReturn(testEmployeeDto);
+
+        List<EmployeeDto> result = employeeService.createEmployeesBulk(dtos);
+
+        assertEquals(dtos.size(), result.size(), "Every employee should be returned");
+        verify(referenceResolver, times(1)).resolve(dtos);
+        verify(employeeDao, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(dtos.size())).detach(any(Employee.class));
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void createEmployeesBulk_OverLimit_ShouldThrowValidationException() {
+        List<EmployeeCreateDto> dtos =
+            Collections.nCopies(EmployeeService.MAX_BULK_SIZE + 1, testEmployeeCreateDto);
+
+        assertThrows(ValidationException.class, () -> employeeService.createEmployeesBulk(dtos));
+        verify(referenceResolver, never()).resolve(anyList());
+        verify(employeeDao, never()).saveAll(anyList());
     }
 
     @Test
@@ -470,8 +497,7 @@ class EmployeeServiceTest {
             () -> employeeService.createEmployeesBulk(null));
 
         assertEquals("Employee list cannot be null or empty", exception.getMessage(), "Exception message should match");
-        verify(employeeMapper, never()).toEntity(any());
-        verify(userDao, never()).findById(anyLong());
+        verify(referenceResolver, never()).resolve(anyList());
         verify(employeeDao, never()).saveAll(anyList());
     }
 
@@ -481,73 +507,155 @@ class EmployeeServiceTest {
             () -> employeeService.createEmployeesBulk(Collections.emptyList()));
 
         assertEquals("Employee list cannot be null or empty", exception.getMessage(), "Exception message should match");
-        verify(employeeMapper, never()).toEntity(any());
-        verify(userDao, never()).findById(anyLong());
+        verify(referenceResolver, never()).resolve(anyList());
         verify(employeeDao, never()).saveAll(anyList());
     }
 
     @Test
-    void createEmployeesBulk_WithNullDtoInList_ShouldThrowValidationException() {
+    void createEmployeesBulk_WithUnresolvedReferences_ShouldNotSaveAnything() {
         List<EmployeeCreateDto> dtos = Arrays.asList(testEmployeeCreateDto, null);
+        when(referenceResolver.resolve(dtos)).thenThrow(new ValidationException("Bulk creation failed"));
 
-        // Mock userDao for the valid DTO to prevent ResourceNotFoundException
-        when(userDao.findById(1L)).thenReturn(Optional.of(testUser));
-        when(employeeMapper.toEntity(testEmployeeCreateDto)).thenReturn(testEmployee);
+        assertThrows(ValidationException.class, () -> employeeService.createEmployeesBulk(dtos));
 
-        Exception exception = assertThrows(ValidationException.class,
-            () -> employeeService.createEmployeesBulk(dtos));
-
-        assertEquals("Employee DTO or user ID cannot be null in bulk creation", exception.getMessage(), "Exception message should match");
-        verify(userDao, times(1)).findById(1L);
-        verify(employeeMapper, times(1)).toEntity(testEmployeeCreateDto);
+        verify(employeeMapper, never()).toEntityWithoutReferences(any());
         verify(employeeDao, never()).saveAll(anyList());
     }
 
     @Test
-    void createEmployeesBulk_WithNullUserIdInDto_ShouldThrowValidationException() {
-        EmployeeCreateDto invalidDto = new EmployeeCreateDto();
-        invalidDto.setUserId(null); // Null userId
-        List<EmployeeCreateDto> dtos = Arrays.asList(testEmployeeCreateDto, invalidDto);
+    void importChunk_WithBrokenRow_ShouldSaveTheRestAndReportIt() {
+        EmployeeCreateDto brokenDto = new EmployeeCreateDto();
+        brokenDto.setUserId(2L);
+        List<EmployeeCreateDto> dtos = Arrays.asList(testEmployeeCreateDto, brokenDto, null);
+        Employee employee = new Employee();
+        when(referenceResolver.collect(dtos)).thenReturn(references(testUser));
+        when(employeeMapper.toEntityWithoutReferences(testEmployeeCreateDto)).thenReturn(employee);
+
+        List<FailedRow> failures = employeeService.importChunk(dtos, 1000);
+
+        assertEquals(List.of(new FailedRow(1001, "User not found with id 2"),
+            new FailedRow(1002, "Employee DTO or user ID cannot be null")), failures);
+        assertSame(testUser, employee.getUser());
+        verify(employeeDao, times(1)).saveAll(List.of(employee));
+    }
 
-        // Mock userDao for the valid DTO to prevent ResourceNotFoundException
-        when(userDao.findById(1L)).thenReturn(Optional.of(testUser));
-        when(employeeMapper.toEntity(testEmployeeCreateDto)).thenReturn(testEmployee);
+    @Test
+    @SuppressWarnings("unchecked")
+    void importChunk_WithInvalidRow_ShouldSaveTheRestAndReportIt() {
+        User secondUser = new User();
+        secondUser.setId(2L);
+        EmployeeCreateDto invalidDto = dto("not-an-email", 2L);
+        List<EmployeeCreateDto> dtos = List.of(testEmployeeCreateDto, invalidDto);
+        ConstraintViolation<EmployeeCreateDto> violation = mock(ConstraintViolation.class);
+        Employee employee = new Employee();
+        when(referenceResolver.collect(dtos)).thenReturn(references(testUser, secondUser));
+        when(violation.getMessage()).thenReturn("Invalid email format");
+        when(validator.validate(invalidDto)).thenReturn(Set.of(violation));
+        when(employeeMapper.toEntityWithoutReferences(testEmployeeCreateDto)).thenReturn(employee);
+
+        List<FailedRow> failures = employeeService.importChunk(dtos, 1000);
+
+        assertEquals(List.of(new FailedRow(1001, "Invalid email format")), failures);
+        verify(employeeDao, times(1)).saveAll(List.of(employee));
+    }
 
-        Exception exception = assertThrows(ValidationException.class,
-            () -> employeeService.createEmployeesBulk(dtos));
+    @Test
+    void importChunk_WithDuplicateEmailOrUser_ShouldSaveTheRestAndReportThem() {
+        User secondUser = new User();
+        secondUser.setId(2L);
+        User thirdUser = new User();
+        thirdUser.setId(3L);
+        EmployeeCreateDto sameEmailDto = dto("john.doe@example.com", 2L);
+        EmployeeCreateDto takenEmailDto = dto("taken@example.com", 3L);
+        EmployeeCreateDto sameUserDto = dto("other@example.com", 1L);
+        List<EmployeeCreateDto> dtos =
+            List.of(testEmployeeCreateDto, sameEmailDto, takenEmailDto, sameUserDto);
+        Employee employee = new Employee();
+        when(referenceResolver.collect(dtos)).thenReturn(references(testUser, secondUser, thirdUser));
+        when(employeeDao.findEmailsIn(Set.of("john.doe@example.com", "taken@example.com",
+            "other@example.com"))).thenReturn(List.of("taken@example.com"));
+        when(employeeDao.findUserIdsIn(Set.of(1L, 2L, 3L))).thenReturn(List.of());
+        when(employeeMapper.toEntityWithoutReferences(testEmployeeCreateDto)).thenReturn(employee);
+
+        List<FailedRow> failures = employeeService.importChunk(dtos, 0);
+
+        assertEquals(List.of(
+            new FailedRow(1, "Employee with email john.doe@example.com already exists"),
+            new FailedRow(2, "Employee with email taken@example.com already exists"),
+            new FailedRow(3, "User with id 1 already has an employee")), failures);
+        verify(employeeDao, times(1)).saveAll(List.of(employee));
+    }
 
-        assertEquals("Employee DTO or user ID cannot be null in bulk creation", exception.getMessage(), "Exception message should match");
-        verify(userDao, times(1)).findById(1L);
-        verify(employeeMapper, times(1)).toEntity(testEmployeeCreateDto);
-        verify(employeeDao, never()).saveAll(anyList());
+    @Test
+    void changeSalaries_ByDepartment_ShouldScaleInOneStatement() {
+        SalaryChangeDto salaryChangeDto = new SalaryChangeDto();
+        salaryChangeDto.setDepartmentId(1L);
+        salaryChangeDto.setPercent(new BigDecimal("7.5"));
+        when(employeeDao.scaleSalaries(new BigDecimal("1.075"), 1L, null)).thenReturn(12);
+
+        int affectedRows = employeeService.changeSalaries(salaryChangeDto);
+
+        assertEquals(12, affectedRows, "Affected row count should be returned");
+        verify(employeeDao, never()).save(any());
     }
 
     @Test
-    void createEmployeesBulk_WithNonExistentUser_ShouldThrowResourceNotFoundException() {
-        EmployeeCreateDto secondEmployeeCreateDto = new EmployeeCreateDto();
-        secondEmployeeCreateDto.setFirstName("Jane");
-        secondEmployeeCreateDto.setLastName("Smith");
-        secondEmployeeCreateDto.setEmail("jane.smith@example.com");
-        secondEmployeeCreateDto.setHireDate(LocalDate.of(2023, 2, 1));
-        secondEmployeeCreateDto.setSalary(BigDecimal.valueOf(60000));
-        secondEmployeeCreateDto.setIsActive(true);
-        secondEmployeeCreateDto.setUserId(2L);
-        secondEmployeeCreateDto.setDepartmentId(1L);
-        secondEmployeeCreateDto.setPositionId(1L);
+    void changeSalaries_WithoutFilter_ShouldThrowValidationException() {
+        SalaryChangeDto salaryChangeDto = new SalaryChangeDto();
+        salaryChangeDto.setPercent(BigDecimal.TEN);
 
-        List<EmployeeCreateDto> dtos = Arrays.asList(testEmployeeCreateDto, secondEmployeeCreateDto);
+        assertThrows(ValidationException.class,
+            () -> employeeService.changeSalaries(salaryChangeDto));
+        verify(employeeDao, never()).scaleSalaries(any(), any(), any());
+    }
 
-        when(employeeMapper.toEntity(any())).thenReturn(testEmployee);
-        when(userDao.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userDao.findById(2L)).thenReturn(Optional.empty());
+    @Test
+    void changeStatus_WithIds_ShouldUpdateInOneStatement() {
+        EmployeeStatusChangeDto statusChangeDto = new EmployeeStatusChangeDto();
+        statusChangeDto.setIds(List.of(1L, 2L, 3L));
+        statusChangeDto.setIsActive(false);
+        when(employeeDao.updateIsActiveByIds(List.of(1L, 2L, 3L), false)).thenReturn(2);
 
-        Exception exception = assertThrows(ResourceNotFoundException.class,
-            () -> employeeService.createEmployeesBulk(dtos));
+        int affectedRows = employeeService.changeStatus(statusChangeDto);
 
-        assertEquals("User not found with id 2", exception.getMessage(), "Exception message should match");
-        verify(userDao, times(1)).findById(1L);
-        verify(userDao, times(1)).findById(2L);
-        verify(employeeMapper, times(2)).toEntity(any());
-        verify(employeeDao, never()).saveAll(anyList());
+        assertEquals(2, affectedRows, "Only existing employees should be counted");
+    }
+
+    @Test
+    void deleteEmployees_TooManyIds_ShouldThrowValidationException() {
+        List<Long> ids = Collections.nCopies(EmployeeService.MAX_BULK_IDS + 1, 1L);
+
+        assertThrows(ValidationException.class, () -> employeeService.deleteEmployees(ids));
+        verify(employeeDao, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void deleteEmployees_WithIds_ShouldDeleteInOneStatement() {
+        when(employeeDao.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        int affectedRows = employeeService.deleteEmployees(List.of(1L, 2L));
+
+        assertEquals(2, affectedRows, "Affected row count should be returned");
+        verify(employeeDao, never()).deleteById(anyLong());
+        verify(userDetailsService, times(1)).evictAll();
+    }
+
+    private EmployeeCreateDto dto(String email, Long userId) {
+        EmployeeCreateDto dto = new EmployeeCreateDto();
+        dto.setEmail(email);
+        dto.setUserId(userId);
+        return dto;
+    }
+
+    private EmployeeReferences references(User... users) {
+        return new EmployeeReferences(
+            Arrays.stream(users).collect(Collectors.toMap(User::getId, user -> user)),
+            Map.of(testDepartment.getId(), testDepartment),
+            Map.of(testPosition.getId(), testPosition));
+    }
+
+    private Window<EmployeeRow> window(boolean hasNext) {
+        return Window.from(List.of(testEmployeeRow), index -> ScrollPosition.offset(index),
+            hasNext);
     }
-}
\ No newline at end of file
+}
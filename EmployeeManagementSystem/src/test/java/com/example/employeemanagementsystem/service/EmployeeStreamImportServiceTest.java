@@ -0,0 +1,189 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dto.create.EmployeeCreateDto;
+import com.example.employeemanagementsystem.dto.get.EmployeeImportResultDto;
+import com.example.employeemanagementsystem.exception.ValidationException;
+import com.example.employeemanagementsystem.model.EmployeeImportTask.FailedRow;
+import com.example.employeemanagementsystem.service.EmployeeStreamImportService.Format;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeStreamImportServiceTest {
+
+    private static final String CSV_HEADER =
+        "firstName,lastName,email,hireDate,salary,isActive,departmentId,positionId,userId\n";
+
+    private ValidatorFactory validatorFactory;
+    private EmployeeService employeeService;
+    private EmployeeStreamImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        employeeService = mock(EmployeeService.class);
+        importService =
+            new EmployeeStreamImportService(employeeService, validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void importEmployees_Csv_ShouldParseQuotedFieldsAndIgnoreUnknownColumns() throws IOException {
+        String csv = "id," + CSV_HEADER.replace("\n", ",username\r\n")
+            + "7,\"Doe, Jr.\",\"O\"\"Brien\",john@example.com,2023-01-01,50000.50,true,1,2,3,jd\r\n"
+            + "\n";
+        List<EmployeeCreateDto> imported =
+            captureSingleChunk(Format.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        EmployeeCreateDto dto = imported.get(0);
+        assertEquals("Doe, Jr.", dto.getFirstName());
+        assertEquals("O\"Brien", dto.getLastName());
+        assertEquals(LocalDate.of(2023, 1, 1), dto.getHireDate());
+        assertEquals(new BigDecimal("50000.50"), dto.getSalary());
+        assertEquals(3L, dto.getUserId());
+        assertEquals(1, imported.size());
+    }
+
+    @Test
+    void importEmployees_CsvWithBadRows_ShouldReportThemByPosition() throws IOException {
+        String csv = CSV_HEADER
+            + "John,Doe,john@example.com,2023-01-01,50000,true,1,1,1\n"
+            + "Jane,Doe,jane@example.com,not-a-date,50000,true,1,1,2\n"
+            + "Jim,Doe,jim@example.com,2023-01-01,-5,true,1,1,3\n"
+            + "Joe,Doe,joe@example.com,2023-01-01,50000,true,1,1,4\n";
+        when(employeeService.importChunk(anyList(), eq(0)))
+            .thenReturn(List.of(new FailedRow(1, "User not found with id 4")));
+
+        EmployeeImportResultDto result = importService.importEmployees(Format.CSV, stream(csv));
+
+        assertEquals(4, result.getProcessedRows());
+        assertEquals(1, result.getCreatedRows());
+        assertEquals(3, result.getFailedRowCount());
+        assertEquals(List.of(
+            new FailedRow(1, "Invalid hireDate 'not-a-date'"),
+            new FailedRow(2, "Salary must be positive"),
+            new FailedRow(3, "User not found with id 4")), result.getFailedRows());
+    }
+
+    @Test
+    void importEmployees_ManyRows_ShouldImportChunkByChunk() throws IOException {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i <= EmployeeService.BULK_CHUNK_SIZE; i++) {
+            csv.append("John,Doe,john@example.com,2023-01-01,50000,true,1,1,")
+                .append(i)
+                .append('\n');
+        }
+        when(employeeService.importChunk(anyList(), eq(0))).thenReturn(List.of());
+
+        EmployeeImportResultDto result =
+            importService.importEmployees(Format.CSV, stream(csv.toString()));
+
+        assertEquals(EmployeeService.BULK_CHUNK_SIZE + 1, result.getCreatedRows());
+        verify(employeeService, times(2)).importChunk(anyList(), eq(0));
+    }
+
+    @Test
+    void importEmployees_UnterminatedQuote_ShouldFail() {
+        String csv = CSV_HEADER + "\"John,Doe\n";
+
+        assertThrows(ValidationException.class,
+            () -> importService.importEmployees(Format.CSV, stream(csv)));
+        verify(employeeService, never()).importChunk(anyList(), anyInt());
+    }
+
+    @Test
+    void importEmployees_Binary_ShouldDecodeRecords() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(EmployeeBinaryReader.MAGIC);
+        writeRecord(out, true);
+        writeRecord(out, false);
+        out.flush();
+
+        List<EmployeeCreateDto> imported = captureSingleChunk(Format.BINARY, bytes.toByteArray());
+
+        EmployeeCreateDto dto = imported.get(0);
+        assertEquals("John", dto.getFirstName());
+        assertEquals("john@example.com", dto.getEmail());
+        assertEquals(LocalDate.of(2023, 1, 1), dto.getHireDate());
+        assertEquals(new BigDecimal("50000.50"), dto.getSalary());
+        assertTrue(dto.getIsActive());
+        assertEquals(5L, dto.getUserId());
+        assertEquals(2, imported.size());
+    }
+
+    @Test
+    void importEmployees_TruncatedBinary_ShouldFail() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(EmployeeBinaryReader.MAGIC);
+        out.writeInt(100);
+        out.writeShort(0);
+        out.flush();
+
+        assertThrows(ValidationException.class, () -> importService.importEmployees(
+            Format.BINARY, new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    void of_UnknownFormat_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> Format.of("xlsx"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EmployeeCreateDto> captureSingleChunk(Format format, byte[] input)
+        throws IOException {
+        when(employeeService.importChunk(anyList(), eq(0))).thenReturn(List.of());
+
+        EmployeeImportResultDto result =
+            importService.importEmployees(format, new ByteArrayInputStream(input));
+
+        ArgumentCaptor<List<EmployeeCreateDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(employeeService, times(1)).importChunk(captor.capture(), eq(0));
+        assertEquals(0, result.getFailedRowCount(), () -> result.getFailedRows().toString());
+        return captor.getValue();
+    }
+
+    private static void writeRecord(DataOutputStream out, boolean active) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeShort(0x1FF);
+        record.writeUTF("John");
+        record.writeUTF("Doe");
+        record.writeUTF("john@example.com");
+        record.writeInt((int) LocalDate.of(2023, 1, 1).toEpochDay());
+        record.writeByte(2);
+        record.writeLong(5000050);
+        record.writeBoolean(active);
+        record.writeLong(1);
+        record.writeLong(1);
+        record.writeLong(5);
+        record.flush();
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.service.JsonResponseCache.CachedJson;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonResponseCacheTest {
+
+    private LoopbackInvalidationBus invalidationBus;
+    private JsonResponseCache jsonResponseCache;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new LoopbackInvalidationBus();
+        jsonResponseCache = newJsonResponseCache(invalidationBus);
+        calls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void respond_CalledTwice_ShouldSerializeOnce() {
+        ResponseEntity<byte[]> first = respond(null);
+        ResponseEntity<byte[]> second = respond(null);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals("[\"a\",\"b\"]", new String(second.getBody(), StandardCharsets.UTF_8));
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void respond_WithCurrentEtag_ShouldReturnNotModified() {
+        String etag = respond(null).getHeaders().getETag();
+
+        ResponseEntity<byte[]> result = respond(etag);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void invalidate_ShouldRebuildResponseOnNextRequest() {
+        String etag = respond(null).getHeaders().getETag();
+
+        jsonResponseCache.invalidate(JsonResponseCache.DEPARTMENTS);
+        ResponseEntity<byte[]> result = respond(etag);
+
+        assertEquals(2, calls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+    }
+
+    @Test
+    void invalidate_InTransaction_ShouldDropResponsesCachedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        jsonResponseCache.invalidate(JsonResponseCache.DEPARTMENTS);
+        respond(null);
+        List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        respond(null);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void invalidate_OnOtherNode_ShouldRebuildResponse() {
+        JsonResponseCache otherNode = newJsonResponseCache(invalidationBus.connectPeer());
+        respond(null);
+
+        otherNode.invalidate(JsonResponseCache.DEPARTMENTS);
+        respond(null);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_DifferentGroups_ShouldNotShareEntries() {
+        CachedJson departments = jsonResponseCache.get(JsonResponseCache.DEPARTMENTS, "all",
+            () -> List.of("a"));
+        CachedJson roles = jsonResponseCache.get(JsonResponseCache.ROLES, "all",
+            () -> List.of("b"));
+
+        assertNotEquals(departments.getEtag(), roles.getEtag());
+    }
+
+    private static JsonResponseCache newJsonResponseCache(CacheInvalidationBus bus) {
+        return new JsonResponseCache(new InMemoryCache<>(16), new ObjectMapper(), bus);
+    }
+
+    private ResponseEntity<byte[]> respond(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/departments");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        ServletWebRequest webRequest =
+            new ServletWebRequest(request, new MockHttpServletResponse());
+        return jsonResponseCache.respond(webRequest, JsonResponseCache.DEPARTMENTS, "all", () -> {
+            calls.incrementAndGet();
+            return List.of("a", "b");
+        });
+    }
+}
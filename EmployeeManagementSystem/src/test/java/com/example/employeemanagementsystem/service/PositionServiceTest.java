@@ -6,12 +6,16 @@ import com.example.employeemanagementsystem.dto.get.PositionDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.mapper.PositionMapper;
 import com.example.employeemanagementsystem.model.Position;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collections;
 import java.util.List;
@@ -31,6 +35,12 @@ class PositionServiceTest {
     @Mock
     private PositionMapper positionMapper;
 
+    @Spy
+    private InMemoryCache<Long, PositionDto> positionCache = new InMemoryCache<>(16);
+
+    @Mock
+    private JsonResponseCache jsonResponseCache;
+
     @InjectMocks
     private PositionService positionService;
 
@@ -81,6 +91,65 @@ class PositionServiceTest {
         verify(positionMapper, never()).toDto(any());
     }
 
+    @Test
+    void getPositionById_CalledTwice_ShouldServeSecondCallFromCache() {
+        when(positionDao.findById(1L)).thenReturn(Optional.of(testPosition));
+        when(positionMapper.toDto(testPosition)).thenReturn(testPositionDto);
+
+        PositionDto first = positionService.getPositionById(1L);
+        PositionDto second = positionService.getPositionById(1L);
+
+        assertSame(first, second);
+        verify(positionDao, times(1)).findById(1L);
+        verify(positionMapper, times(1)).toDto(testPosition);
+    }
+
+    @Test
+    void updatePosition_ValidDto_ShouldEvictCachedDto() {
+        positionCache.put(1L, new PositionDto());
+        when(positionDao.findById(1L)).thenReturn(Optional.of(testPosition));
+        when(positionDao.save(testPosition)).thenReturn(testPosition);
+        when(positionMapper.toDto(testPosition)).thenReturn(testPositionDto);
+
+        positionService.updatePosition(1L, testPositionCreateDto);
+
+        assertNull(positionCache.get(1L));
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.POSITIONS);
+    }
+
+    @Test
+    void createPosition_InsideTransaction_ShouldCacheDtoOnlyAfterCommit() {
+        when(positionMapper.toEntity(testPositionCreateDto)).thenReturn(testPosition);
+        when(positionDao.save(testPosition)).thenReturn(testPosition);
+        when(positionMapper.toDto(testPosition)).thenReturn(testPositionDto);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            positionService.createPosition(testPositionCreateDto);
+            assertNull(positionCache.get(1L));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertSame(testPositionDto, positionCache.get(1L));
+    }
+
+    @Test
+    void deletePosition_WhenCached_ShouldEvictCachedDto() {
+        when(positionDao.findById(1L)).thenReturn(Optional.of(testPosition));
+        when(positionMapper.toDto(testPosition)).thenReturn(testPositionDto);
+        when(positionDao.existsById(1L)).thenReturn(true);
+        positionService.getPositionById(1L);
+
+        positionService.deletePosition(1L);
+
+        assertNull(positionCache.get(1L));
+        verify(positionCache, times(1)).evict(1L);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.POSITIONS);
+    }
+
     @Test
     void getAllPositions_ShouldReturnListOfPositionDtos() {
         List<Position> positions = Collections.singletonList(testPosition);
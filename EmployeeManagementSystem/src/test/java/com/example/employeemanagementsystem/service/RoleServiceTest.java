@@ -6,11 +6,13 @@ import com.example.employeemanagementsystem.dto.get.RoleDto;
 import com.example.employeemanagementsystem.exception.ResourceNotFoundException;
 import com.example.employeemanagementsystem.mapper.RoleMapper;
 import com.example.employeemanagementsystem.model.Role;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
@@ -32,6 +34,18 @@ class RoleServiceTest {
     @Mock
     private RoleMapper roleMapper;
 
+    @Spy
+    private InMemoryCache<Long, RoleDto> roleCache = new InMemoryCache<>(16);
+
+    @Mock
+    private JsonResponseCache jsonResponseCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
     @InjectMocks
     private RoleService roleService;
 
@@ -79,6 +93,45 @@ class RoleServiceTest {
         verify(roleMapper, never()).toDto(any());
     }
 
+    @Test
+    void getRoleById_CalledTwice_ShouldServeSecondCallFromCache() {
+        when(roleDao.findById(1L)).thenReturn(Optional.of(testRole));
+        when(roleMapper.toDto(testRole)).thenReturn(testRoleDto);
+
+        RoleDto first = roleService.getRoleById(1L);
+        RoleDto second = roleService.getRoleById(1L);
+
+        assertSame(first, second);
+        verify(roleDao, times(1)).findById(1L);
+        verify(roleMapper, times(1)).toDto(testRole);
+    }
+
+    @Test
+    void updateRole_ValidDto_ShouldEvictCachedDto() {
+        roleCache.put(1L, new RoleDto());
+        when(roleDao.findById(1L)).thenReturn(Optional.of(testRole));
+        when(roleDao.save(testRole)).thenReturn(testRole);
+        when(roleMapper.toDto(testRole)).thenReturn(testRoleDto);
+
+        roleService.updateRole(1L, testRoleCreateDto);
+
+        assertNull(roleCache.get(1L));
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.ROLES);
+    }
+
+    @Test
+    void deleteRole_WhenCached_ShouldEvictCachedDto() {
+        when(roleDao.findById(1L)).thenReturn(Optional.of(testRole));
+        when(roleMapper.toDto(testRole)).thenReturn(testRoleDto);
+        roleService.getRoleById(1L);
+
+        roleService.deleteRole(1L);
+
+        assertNull(roleCache.get(1L));
+        verify(roleCache, times(1)).evict(1L);
+        verify(jsonResponseCache, times(1)).invalidate(JsonResponseCache.ROLES);
+    }
+
     @Test
     void getAllRoles_ShouldReturnListOfRoleDtos() {
         List<Role> roles = Collections.singletonList(testRole);
@@ -137,6 +190,24 @@ class RoleServiceTest {
         verify(roleMapper, times(1)).updateRoleFromDto(testRoleCreateDto, testRole);
         verify(roleDao, times(1)).save(testRole);
         verify(roleMapper, times(1)).toDto(testRole);
+        verify(tokenRevocationService, never()).revokeRole(anyLong());
+    }
+
+    @Test
+    void updateRole_Renamed_ShouldRevokeTokensOfRoleHolders() {
+        testRoleCreateDto.setName("ROLE_STAFF");
+        when(roleDao.findById(1L)).thenReturn(Optional.of(testRole));
+        doAnswer(invocation -> {
+            testRole.setName("ROLE_STAFF");
+            return null;
+        }).when(roleMapper).updateRoleFromDto(testRoleCreateDto, testRole);
+        when(roleDao.save(testRole)).thenReturn(testRole);
+        when(roleMapper.toDto(testRole)).thenReturn(testRoleDto);
+
+        roleService.updateRole(1L, testRoleCreateDto);
+
+        verify(tokenRevocationService, times(1)).revokeRole(1L);
+        verify(userDetailsService, times(1)).evictAll();
     }
 
     @Test
@@ -160,6 +231,8 @@ class RoleServiceTest {
         roleService.deleteRole(1L);
 
         verify(roleDao, times(1)).findById(1L);
+        verify(tokenRevocationService, times(1)).revokeRole(1L);
+        verify(userDetailsService, times(1)).evictAll();
         verify(roleDao, times(1)).deleteById(1L);
     }
 
@@ -0,0 +1,79 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private UserDao userDao;
+    private TokenRevocationService firstNode;
+    private TokenRevocationService secondNode;
+
+    @BeforeEach
+    void setUp() {
+        userDao = mock(UserDao.class);
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus();
+        firstNode = new TokenRevocationService(userDao, bus);
+        secondNode = new TokenRevocationService(userDao, bus.connectPeer());
+        firstNode.subscribe();
+        secondNode.subscribe();
+    }
+
+    @Test
+    void isCurrent_ShouldLoadVersionOncePerUser() {
+        when(userDao.findTokenVersionById(1L)).thenReturn(Optional.of(2));
+
+        assertTrue(firstNode.isCurrent(1L, 2));
+        assertFalse(firstNode.isCurrent(1L, 1));
+
+        verify(userDao, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void isCurrent_UnknownUser_ShouldBeRevoked() {
+        when(userDao.findTokenVersionById(1L)).thenReturn(Optional.empty());
+
+        assertFalse(firstNode.isCurrent(1L, 0));
+    }
+
+    @Test
+    void revoke_ShouldRejectOlderTokensOnEveryNode() {
+        User user = new User();
+        user.setId(1L);
+        when(userDao.findTokenVersionById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(secondNode.isCurrent(1L, 0));
+
+        firstNode.revoke(user);
+
+        assertEquals(1, user.getTokenVersion());
+        assertFalse(firstNode.isCurrent(1L, 0));
+        assertFalse(secondNode.isCurrent(1L, 0));
+        assertTrue(secondNode.isCurrent(1L, 1));
+    }
+
+    @Test
+    void revokeDeleted_ShouldRejectEveryToken() {
+        firstNode.revokeDeleted(1L);
+
+        assertFalse(firstNode.isCurrent(1L, Integer.MAX_VALUE - 1));
+        verify(userDao, never()).findTokenVersionById(1L);
+    }
+
+    @Test
+    void revokeRole_ShouldReloadEveryVersion() {
+        when(userDao.findTokenVersionById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(firstNode.isCurrent(1L, 0));
+
+        firstNode.revokeRole(5L);
+
+        assertFalse(firstNode.isCurrent(1L, 0));
+        verify(userDao, times(1)).incrementTokenVersionsByRoleId(5L);
+    }
+}
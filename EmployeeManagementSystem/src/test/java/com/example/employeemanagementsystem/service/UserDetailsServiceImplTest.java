@@ -0,0 +1,125 @@
+package com.example.employeemanagementsystem.service;
+
+import com.example.employeemanagementsystem.dao.UserDao;
+import com.example.employeemanagementsystem.model.AuthenticatedUser;
+import com.example.employeemanagementsystem.model.Employee;
+import com.example.employeemanagementsystem.model.Role;
+import com.example.employeemanagementsystem.model.User;
+import com.example.employeemanagementsystem.service.UserDetailsServiceImpl.CachedUser;
+import com.example.employeemanagementsystem.utils.InMemoryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserDetailsServiceImplTest {
+
+    private UserDao userDao;
+    private UserDetailsServiceImpl userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userDao = mock(UserDao.class);
+        InMemoryCache<String, CachedUser> userDetailsCache = new InMemoryCache<>(16);
+        userDetailsService = new UserDetailsServiceImpl(userDao, userDetailsCache);
+
+        Role role = new Role();
+        role.setName("USER");
+        Employee employee = new Employee();
+        employee.setEmail("john@example.com");
+        user = new User();
+        user.setId(1L);
+        user.setUsername("john");
+        user.setPassword("encoded");
+        user.setTokenVersion(2);
+        user.setRoles(Set.of(role));
+        user.setEmployee(employee);
+    }
+
+    @Test
+    void loadUserByUsername_Twice_ShouldLoadOnceAndReturnFreshPrincipals() {
+        when(userDao.findByUsernameOrEmployeeEmail("john")).thenReturn(List.of(user));
+
+        AuthenticatedUser first = (AuthenticatedUser) userDetailsService.loadUserByUsername("john");
+        first.eraseCredentials();
+        AuthenticatedUser second =
+            (AuthenticatedUser) userDetailsService.loadUserByUsername("john");
+
+        assertEquals("encoded", second.getPassword());
+        assertEquals(1L, second.getUserId());
+        assertEquals(2, second.getTokenVersion());
+        assertEquals("USER", second.getAuthorities().iterator().next().getAuthority());
+        verify(userDao, times(1)).findByUsernameOrEmployeeEmail("john");
+    }
+
+    @Test
+    void loadUserByUsername_UsernameOfOneAndEmailOfAnother_ShouldPreferUsername() {
+        User other = new User();
+        other.setId(2L);
+        other.setUsername("john@example.com");
+        other.setPassword("other");
+        other.setRoles(Set.of());
+        when(userDao.findByUsernameOrEmployeeEmail("john@example.com"))
+            .thenReturn(List.of(user, other));
+
+        AuthenticatedUser result =
+            (AuthenticatedUser) userDetailsService.loadUserByUsername("john@example.com");
+
+        assertEquals(2L, result.getUserId());
+    }
+
+    @Test
+    void loadUserByUsername_UnknownUser_ShouldThrowAndNotCache() {
+        when(userDao.findByUsernameOrEmployeeEmail("ghost")).thenReturn(List.of());
+
+        assertThrows(UsernameNotFoundException.class,
+            () -> userDetailsService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class,
+            () -> userDetailsService.loadUserByUsername("ghost"));
+
+        verify(userDao, times(2)).findByUsernameOrEmployeeEmail("ghost");
+    }
+
+    @Test
+    void evict_ShouldDropEntriesByUsernameAndEmail() {
+        when(userDao.findByUsernameOrEmployeeEmail("john")).thenReturn(List.of(user));
+        when(userDao.findByUsernameOrEmployeeEmail("john@example.com")).thenReturn(List.of(user));
+        userDetailsService.loadUserByUsername("john");
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        userDetailsService.evict(user);
+        userDetailsService.loadUserByUsername("john");
+        userDetailsService.loadUserByUsername("john@example.com");
+
+        verify(userDao, times(2)).findByUsernameOrEmployeeEmail("john");
+        verify(userDao, times(2)).findByUsernameOrEmployeeEmail("john@example.com");
+    }
+
+    @Test
+    void evict_InsideTransaction_ShouldEvictAgainAfterCommit() {
+        when(userDao.findByUsernameOrEmployeeEmail("john")).thenReturn(List.of(user));
+        userDetailsService.loadUserByUsername("john");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userDetailsService.evict(user);
+            // A concurrent login reloads the row that is not committed yet.
+            userDetailsService.loadUserByUsername("john");
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailsService.loadUserByUsername("john");
+
+        verify(userDao, times(3)).findByUsernameOrEmployeeEmail("john");
+    }
+}
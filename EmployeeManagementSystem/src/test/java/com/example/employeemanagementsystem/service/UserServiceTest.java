@@ -46,6 +46,12 @@ class UserServiceTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
@@ -242,6 +248,7 @@ class UserServiceTest {
         verify(userMapper, times(1)).updateUserFromDto(userCreateDto, testUser);
         verify(passwordEncoder, times(1)).encode("newPassword");
         verify(roleDao, times(1)).findById(1L);
+        verify(tokenRevocationService, times(1)).revoke(testUser);
         verify(userDao, times(1)).save(testUser);
         verify(userMapper, times(1)).toDto(testUser);
     }
@@ -267,10 +274,34 @@ class UserServiceTest {
         verify(userMapper, times(1)).updateUserFromDto(userCreateDto, testUser);
         verify(passwordEncoder, never()).encode(anyString());
         verify(roleDao, times(1)).findById(1L);
+        verify(tokenRevocationService, never()).revoke(any());
         verify(userDao, times(1)).save(testUser);
         verify(userMapper, times(1)).toDto(testUser);
     }
 
+    @Test
+    void updateUser_WithOtherRoles_ShouldRevokeTokens() {
+        Role adminRole = new Role();
+        adminRole.setId(2L);
+        adminRole.setName("ROLE_ADMIN");
+        UserCreateDto userCreateDto = new UserCreateDto();
+        userCreateDto.setUsername("testUser");
+        userCreateDto.setRoleIds(Collections.singleton(2L));
+
+        when(userDao.findById(1L)).thenReturn(Optional.of(testUser));
+        doNothing().when(userMapper).updateUserFromDto(userCreateDto, testUser);
+        when(roleDao.findById(2L)).thenReturn(Optional.of(adminRole));
+        when(userDao.save(testUser)).thenReturn(testUser);
+        when(userMapper.toDto(testUser)).thenReturn(testUserDto);
+
+        userService.updateUser(1L, userCreateDto);
+
+        assertEquals(Set.of(adminRole), testUser.getRoles());
+        verify(tokenRevocationService, times(1)).revoke(testUser);
+        verify(userDetailsService, times(1)).evict("testUser");
+        verify(userDetailsService, times(1)).evict(testUser);
+    }
+
     @Test
     void updateUser_WithoutRoles_ShouldNotUpdateRoles() {
         UserCreateDto userCreateDto = new UserCreateDto();
@@ -342,6 +373,8 @@ class UserServiceTest {
         userService.deleteUser(1L);
 
         verify(userDao, times(1)).findById(1L);
+        verify(tokenRevocationService, times(1)).revokeDeleted(1L);
+        verify(userDetailsService, times(1)).evict(testUser);
         verify(userDao, times(1)).deleteById(1L);
     }
 
@@ -0,0 +1,529 @@
+package com.example.employeemanagementsystem.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCacheTest {
+
+    @Test
+    void constructor_NonPositiveCapacity_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryCache<Long, String>(0));
+    }
+
+    @Test
+    void put_ThenGet_ShouldReturnValue() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+
+        cache.put(1L, "one");
+
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void put_ExistingKey_ShouldReplaceValueWithoutGrowing() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+
+        cache.put(1L, "one");
+        cache.put(1L, "uno");
+
+        assertEquals("uno", cache.get(1L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_OverCapacity_ShouldEvictLeastRecentlyUsed() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        cache.get(1L);
+        cache.put(3L, "three");
+
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("three", cache.get(3L));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void put_OverCapacityWithLfu_ShouldEvictLeastFrequentlyUsed() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(2, EvictionPolicy.LFU);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        cache.put(3L, "three");
+
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("three", cache.get(3L));
+    }
+
+    @Test
+    void put_OverCapacityWithFifo_ShouldIgnoreReads() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(2, EvictionPolicy.FIFO);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        cache.put(3L, "three");
+
+        assertNull(cache.get(1L));
+        assertEquals("two", cache.get(2L));
+    }
+
+    @Test
+    void put_ScanWithTinyLfu_ShouldKeepFrequentlyUsedEntry() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(10, EvictionPolicy.TINY_LFU);
+        cache.put(1L, "hot");
+        for (int i = 0; i < 20; i++) {
+            cache.get(1L);
+        }
+
+        for (long key = 100; key < 200; key++) {
+            cache.put(key, "scan");
+        }
+
+        assertEquals("hot", cache.get(1L));
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void put_OverMaximumWeight_ShouldEvictUntilWithinBudget() {
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .maximumWeight(10, (key, value) -> value.length())
+            .build();
+        cache.put(1L, "aaaa");
+        cache.put(2L, "bbbb");
+
+        cache.put(3L, "cccccc");
+
+        assertNull(cache.get(1L));
+        assertEquals("bbbb", cache.get(2L));
+        assertEquals("cccccc", cache.get(3L));
+        assertEquals(10, cache.getWeightedSize());
+    }
+
+    @Test
+    void put_ValueHeavierThanMaximumWeight_ShouldNotBeCached() {
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .maximumWeight(4, (key, value) -> value.length())
+            .build();
+        cache.put(1L, "one");
+
+        cache.put(1L, "too heavy");
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.getWeightedSize());
+    }
+
+    @Test
+    void put_ManyLightEntries_ShouldFitMoreThanFewHeavyOnes() {
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .maximumWeight(100, (key, value) -> value.length())
+            .build();
+
+        for (long key = 0; key < 100; key++) {
+            cache.put(key, "x");
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(100, cache.getWeightedSize());
+    }
+
+    @Test
+    void get_AfterExpireAfterWrite_ShouldReturnNull() {
+        AtomicLong time = new AtomicLong();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+
+        time.addAndGet(Duration.ofMinutes(9).toNanos());
+        assertEquals("one", cache.get(1L));
+
+        time.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertNull(cache.get(1L));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_AfterOwnLifetime_ShouldReturnNull() {
+        AtomicLong time = new AtomicLong();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .expireAfter((key, value) -> Duration.ofMinutes(key))
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+        cache.put(5L, "five");
+        cache.put(20L, "twenty");
+
+        time.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertNull(cache.get(1L));
+        assertEquals("five", cache.get(5L));
+
+        time.addAndGet(Duration.ofMinutes(8).toNanos());
+        assertNull(cache.get(5L));
+        assertNull(cache.get(20L));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_WithinExpireAfterAccess_ShouldExtendLifetime() {
+        AtomicLong time = new AtomicLong();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .expireAfterAccess(Duration.ofSeconds(30))
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        for (int i = 0; i < 3; i++) {
+            time.addAndGet(Duration.ofSeconds(20).toNanos());
+            assertEquals("one", cache.get(1L));
+        }
+        cache.cleanUp();
+
+        assertNull(cache.get(2L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void cleanUp_AfterDroppedRead_ShouldKeepRecentlyReadEntry() throws InterruptedException {
+        AtomicLong time = new AtomicLong();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> lockHolder = new AtomicReference<>();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .expireAfterAccess(Duration.ofSeconds(30))
+            .ticker(() -> {
+                // The maintenance of the lock holder reads the time under the eviction lock.
+                if (Thread.currentThread() == lockHolder.get()) {
+                    locked.countDown();
+                    await(release);
+                }
+                return time.get();
+            })
+            .build();
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        Thread maintenance = new Thread(cache::cleanUp);
+        lockHolder.set(maintenance);
+        maintenance.start();
+        await(locked);
+
+        // Nothing is drained while the lock is held: the reads fill the stripe of this thread
+        // and the read of entry 1 is dropped.
+        for (int i = 0; i < ReadBuffer.STRIPE_SIZE; i++) {
+            assertEquals("two", cache.get(2L));
+        }
+        time.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertEquals("one", cache.get(1L));
+        release.countDown();
+        maintenance.join();
+
+        time.addAndGet(Duration.ofSeconds(20).toNanos());
+        cache.cleanUp();
+
+        assertEquals(1, cache.size());
+        assertEquals("one", cache.get(1L));
+    }
+
+    @Test
+    void get_AfterRefreshAfterWrite_ShouldReloadInBackground() {
+        AtomicLong time = new AtomicLong();
+        List<Runnable> tasks = new ArrayList<>();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .refreshAfterWrite(Duration.ofMinutes(5), key -> "reloaded")
+            .executor(tasks::add)
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+
+        time.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertEquals("one", cache.get(1L));
+        assertEquals("one", cache.get(1L));
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals("reloaded", cache.get(1L));
+    }
+
+    @Test
+    void removeAndEvict_ShouldDropEntries() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        assertEquals("one", cache.remove(1L));
+        assertNull(cache.remove(1L));
+        cache.evict(2L);
+
+        assertNull(cache.get(2L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void clear_ShouldDropAllEntries() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+        cache.put(1L, "one");
+        cache.get(1L);
+
+        cache.clear();
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getWithLoader_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "one";
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("one", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals("one", cache.get(1L));
+    }
+
+    @Test
+    void getWithLoader_LoaderThrows_ShouldPropagateAndNotCache() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+            throw new IllegalStateException("database is down");
+        }));
+
+        assertEquals("one", cache.get(1L, key -> "one"));
+        assertEquals(1, cache.stats().getLoadFailureCount());
+        assertEquals(1, cache.stats().getLoadSuccessCount());
+    }
+
+    @Test
+    void getWithLoader_NullResult_ShouldNotCache() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+
+        assertNull(cache.get(1L, key -> null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getWithLoader_RemovedWhileLoading_ShouldNotCacheStaleValue() throws Exception {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(4);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executor.submit(() -> cache.get(1L, key -> {
+                loading.countDown();
+                await(release);
+                return "stale";
+            }));
+            await(loading);
+            cache.remove(1L);
+            release.countDown();
+
+            assertEquals("stale", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void getAll_ShouldLoadMissingKeysWithOneBulkCall() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>(8);
+        cache.put(1L, "one");
+        List<Set<Long>> calls = new ArrayList<>();
+
+        Map<Long, String> result = cache.getAll(List.of(1L, 2L, 3L, 4L), keys -> {
+            calls.add(Set.copyOf(keys));
+            return Map.of(2L, "two", 3L, "three");
+        });
+
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(result.keySet()));
+        assertEquals(List.of(Set.of(2L, 3L, 4L)), calls);
+        assertEquals("three", cache.get(3L));
+        assertNull(cache.get(4L));
+    }
+
+    @Test
+    void stats_ShouldCountHitsMissesAndEvictionsByCause() {
+        AtomicLong time = new AtomicLong();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .capacity(2)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.get(2L);
+        cache.put(2L, "two");
+        cache.put(3L, "three");
+        cache.remove(3L);
+        time.addAndGet(Duration.ofMinutes(1).toNanos());
+        cache.cleanUp();
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(1, stats.getEvictionCounts().get(RemovalCause.SIZE));
+        assertEquals(1, stats.getEvictionCounts().get(RemovalCause.EXPLICIT));
+        assertEquals(1, stats.getEvictionCounts().get(RemovalCause.EXPIRED));
+        assertEquals(0, stats.getSize());
+    }
+
+    @Test
+    void stats_AfterRefresh_ShouldRecordLoadTimeInHistogram() {
+        AtomicLong time = new AtomicLong();
+        List<Runnable> tasks = new ArrayList<>();
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .refreshAfterWrite(Duration.ofMinutes(5), key -> {
+                time.addAndGet(Duration.ofMillis(20).toNanos());
+                return "reloaded";
+            })
+            .executor(tasks::add)
+            .ticker(time::get)
+            .build();
+        cache.put(1L, "one");
+        time.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.get(1L);
+        tasks.get(0).run();
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(Duration.ofMillis(20).toNanos(), stats.getTotalLoadTimeNanos());
+        assertEquals(1, stats.getLoadLatencyHistogram().get("25ms"));
+        assertEquals(0, stats.getLoadLatencyHistogram().get("10ms"));
+    }
+
+    @Test
+    void invalidationListener_ShouldBeNotifiedOfLocalWritesOnly() {
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .keyParser(Long::valueOf)
+            .build();
+        List<String> events = new ArrayList<>();
+        cache.addInvalidationListener(new InvalidationListener<Long>() {
+            @Override
+            public void onInvalidate(Long key) {
+                events.add("key " + key);
+            }
+
+            @Override
+            public void onInvalidateAll() {
+                events.add("all");
+            }
+        });
+
+        cache.put(1L, "one");
+        cache.get(2L, key -> "two");
+        cache.remove(1L);
+        cache.invalidateLocally("2");
+        cache.clear();
+        cache.invalidateAllLocally();
+
+        assertEquals(List.of("key 1", "key 1", "all"), events);
+        assertTrue(cache.isDistributed());
+    }
+
+    @Test
+    void invalidateLocally_ShouldParseKeyAndDropEntry() {
+        InMemoryCache<Long, String> cache = InMemoryCache.<Long, String>builder()
+            .keyParser(Long::valueOf)
+            .build();
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        cache.invalidateLocally("1");
+
+        assertNull(cache.get(1L));
+        assertEquals("two", cache.get(2L));
+    }
+
+    @Test
+    void invalidateLocally_WithoutKeyParser_ShouldThrow() {
+        InMemoryCache<Long, String> cache = new InMemoryCache<>();
+
+        assertFalse(cache.isDistributed());
+        assertThrows(IllegalStateException.class, () -> cache.invalidateLocally("1"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EvictionPolicy.class)
+    void concurrentReadsAndWrites_ShouldNeverExceedCapacity(EvictionPolicy policy)
+        throws Exception {
+        InMemoryCache<Long, Long> cache = new InMemoryCache<>(64, policy);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long offset = t * 1_000L;
+            futures.add(executor.submit(() -> {
+                for (long i = 0; i < 5_000; i++) {
+                    long key = offset + (i % 200);
+                    if (cache.get(key) == null) {
+                        cache.put(key, key);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(cache.size() <= 64);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}